@@ -0,0 +1,98 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.FilterByTeamPredicate;
+import seedu.address.model.team.Team;
+
+/**
+ * Benchmarks the predicates used by {@code FilterCommand} over a whole roster, including the predicate built by
+ * {@link AddressBook#getPersonFilter} that the command passes to the filtered list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private AddressBook addressBook;
+    private final FilterByTeamPredicate teamPredicate = new FilterByTeamPredicate("U16");
+    private final FilterByInjuryPredicate injuryPredicate = new FilterByInjuryPredicate("ACL");
+    private final FilterByPositionPredicate positionPredicate = new FilterByPositionPredicate("LW");
+
+    @Setup
+    public void setUp() {
+        persons = RosterGenerator.generatePersons(rosterSize);
+        addressBook = RosterGenerator.generateAddressBook(rosterSize);
+    }
+
+    @Benchmark
+    public int filterByTeam() {
+        return count(teamPredicate);
+    }
+
+    @Benchmark
+    public int filterByInjury() {
+        return count(injuryPredicate);
+    }
+
+    @Benchmark
+    public int filterByPosition() {
+        return count(positionPredicate);
+    }
+
+    @Benchmark
+    public int filterByTeamInjuryAndPosition() {
+        return count(person -> teamPredicate.test(person) && injuryPredicate.test(person)
+                && positionPredicate.test(person));
+    }
+
+    @Benchmark
+    public int filterByTeamInjuryAndPositionThroughAddressBook() {
+        Predicate<Person> filter = addressBook.getPersonFilter(Optional.of(Team.of("U16")),
+                Optional.of(Injury.of("ACL")), Optional.of(Position.of("LW")));
+        return count(addressBook.getPersonList(), filter);
+    }
+
+    private int count(Predicate<Person> predicate) {
+        return count(persons, predicate);
+    }
+
+    private static int count(List<Person> roster, Predicate<Person> predicate) {
+        int matches = 0;
+        for (Person person : roster) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+}
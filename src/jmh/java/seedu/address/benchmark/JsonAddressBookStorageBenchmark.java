@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Benchmarks loading and saving the address book with {@link JsonAddressBookStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private Path tempFolder;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage loadStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        tempFolder = Files.createTempDirectory("playbook-benchmark");
+        addressBook = RosterGenerator.generateAddressBook(rosterSize);
+        loadStorage = new JsonAddressBookStorage(tempFolder.resolve("load.json"));
+        loadStorage.saveAddressBook(addressBook);
+        saveStorage = new JsonAddressBookStorage(tempFolder.resolve("save.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (Path file : new Path[] {loadStorage.getAddressBookFilePath(), saveStorage.getAddressBookFilePath()}) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(tempFolder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataLoadingException {
+        return loadStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public boolean save() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        return FileUtil.isFileExists(saveStorage.getAddressBookFilePath());
+    }
+
+}
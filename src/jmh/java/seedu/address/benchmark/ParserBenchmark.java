@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PLAYER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Benchmarks the parsing of user input.
+ * Parsing does not depend on the size of the roster, so these benchmarks are not parameterized by it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " " + PREFIX_PLAYER + "John Doe " + PREFIX_PHONE + "98765432 "
+            + PREFIX_EMAIL + "johnd@example.com " + PREFIX_ADDRESS + "311, Clementi Ave 2, #02-25 "
+            + PREFIX_TEAM + "U12 " + PREFIX_TAG + "friends " + PREFIX_TAG + "owesMoney";
+    private static final String ADD_COMMAND = "add" + ADD_ARGUMENTS;
+    private static final String FILTER_COMMAND = "filter tm/U16 i/ACL ps/LW";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_PLAYER, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TEAM, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public Command parseAddCommand() throws ParseException {
+        return parser.parseCommand(ADD_COMMAND);
+    }
+
+    @Benchmark
+    public Command parseFilterCommand() throws ParseException {
+        return parser.parseCommand(FILTER_COMMAND);
+    }
+
+}
@@ -0,0 +1,106 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks the hashing and equality of {@link Person}, which {@link UniquePersonList#setPerson(Person, Person)},
+ * {@link UniquePersonList#remove(Person)} and the list diffs of the UI go through.
+ * The persons looked up are equal copies of the listed ones rather than the listed instances themselves, so that
+ * the identity check in {@code equals} does not answer every comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonHashBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person lastPersonCopy;
+    private Person editedPerson;
+    private Person editedPersonCopy;
+
+    @Setup
+    public void setUp() {
+        persons = RosterGenerator.generatePersons(rosterSize);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        Person lastPerson = persons.get(rosterSize - 1);
+        lastPersonCopy = copyOf(lastPerson);
+        editedPerson = lastPerson.withCaptain(!lastPerson.isCaptain());
+        editedPersonCopy = copyOf(editedPerson);
+    }
+
+    @Benchmark
+    public UniquePersonList setPersonTwice() {
+        personList.setPerson(lastPersonCopy, editedPerson);
+        personList.setPerson(editedPersonCopy, lastPersonCopy);
+        return personList;
+    }
+
+    @Benchmark
+    public UniquePersonList removeThenAdd() {
+        personList.remove(lastPersonCopy);
+        personList.add(lastPersonCopy);
+        return personList;
+    }
+
+    /**
+     * Scans the roster for the last person as {@code List#indexOf} does, comparing it with every other person.
+     */
+    @Benchmark
+    public int indexOf() {
+        return persons.indexOf(lastPersonCopy);
+    }
+
+    @Benchmark
+    public int hashCodes() {
+        int hash = 0;
+        for (Person person : persons) {
+            hash += person.hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Hashes the roster as {@link Person#hashCode()} did before the hash was computed once per person, as a
+     * baseline for {@link #hashCodes()}.
+     */
+    @Benchmark
+    public int hashCodesRecomputed() {
+        int hash = 0;
+        for (Person person : persons) {
+            hash += Objects.hash(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                    person.getTeam(), person.getTags(), person.getPosition(), person.getInjuries(), person.isCaptain());
+        }
+        return hash;
+    }
+
+    private static Person copyOf(Person person) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getTeam(), person.getTags(), person.getPosition(), person.getInjuries(), person.isCaptain());
+    }
+
+}
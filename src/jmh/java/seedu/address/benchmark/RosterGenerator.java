@@ -0,0 +1,61 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates synthetic rosters of any size for benchmarks.
+ * Each player is a numbered copy of one of the sample players in {@link SampleDataUtil}, spread evenly over the
+ * sample teams and positions, so that the same size always gives the same roster.
+ */
+public class RosterGenerator {
+
+    private static final Person[] SAMPLE_PERSONS = SampleDataUtil.getSamplePersons();
+    private static final Team[] SAMPLE_TEAMS = SampleDataUtil.getSampleTeams();
+    private static final Position[] SAMPLE_POSITIONS = SampleDataUtil.getSamplePositions();
+
+    /**
+     * Returns an address book holding the sample teams and positions and {@code size} generated players.
+     */
+    public static AddressBook generateAddressBook(int size) {
+        return new AddressBook(generatePersons(size), Arrays.asList(SAMPLE_TEAMS), Arrays.asList(SAMPLE_POSITIONS));
+    }
+
+    /**
+     * Returns {@code size} players with distinct names.
+     */
+    public static List<Person> generatePersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(generatePerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the {@code index}-th generated player.
+     */
+    public static Person generatePerson(int index) {
+        Person sample = SAMPLE_PERSONS[index % SAMPLE_PERSONS.length];
+        return new Person(new Name(sample.getName().fullName + " " + index),
+                new Phone(String.format("9%07d", index)),
+                new Email("player" + index + "@example.com"),
+                sample.getAddress(),
+                SAMPLE_TEAMS[index % SAMPLE_TEAMS.length],
+                sample.getTags(),
+                SAMPLE_POSITIONS[(index / SAMPLE_TEAMS.length) % SAMPLE_POSITIONS.length],
+                sample.getInjuries(),
+                index % SAMPLE_PERSONS.length == 0);
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.address.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.RosterStats;
+import seedu.address.model.person.FilterInjuredPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.team.Team;
+
+/**
+ * Benchmarks {@link AddressBook#getRosterStats()}, which aggregates over the columnar copy of the roster, against
+ * counting the players of each team by streaming over the persons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RosterStatsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = RosterGenerator.generateAddressBook(rosterSize);
+    }
+
+    @Benchmark
+    public RosterStats rosterStats() {
+        return addressBook.getRosterStats();
+    }
+
+    @Benchmark
+    public Map<Team, Long> injuredPerTeamByStream() {
+        return addressBook.getPersonList().stream()
+                .filter(new FilterInjuredPredicate())
+                .collect(Collectors.groupingBy(Person::getTeam, Collectors.counting()));
+    }
+
+}
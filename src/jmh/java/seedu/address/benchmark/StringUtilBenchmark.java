@@ -0,0 +1,82 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks {@link StringUtil#containsWordIgnoreCase(String, String)} against the split-based implementation it
+ * replaced, by matching a keyword against every name of a roster as {@code find} does.
+ * Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    @Param({"yeoh", "nomatch"})
+    private String keyword;
+
+    private String[] names;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = RosterGenerator.generatePersons(rosterSize);
+        names = persons.stream().map(person -> person.getName().fullName).toArray(String[]::new);
+    }
+
+    @Benchmark
+    public int containsWordIgnoreCase() {
+        int matches = 0;
+        for (String name : names) {
+            if (StringUtil.containsWordIgnoreCase(name, keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public int containsWordIgnoreCaseWithSplit() {
+        int matches = 0;
+        for (String name : names) {
+            if (containsWordIgnoreCaseWithSplit(name, keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * The previous implementation of {@link StringUtil#containsWordIgnoreCase(String, String)}, kept as a baseline.
+     */
+    private static boolean containsWordIgnoreCaseWithSplit(String sentence, String word) {
+        String preppedWord = word.trim();
+        if (preppedWord.isEmpty() || preppedWord.split("\\s+").length != 1) {
+            throw new IllegalArgumentException();
+        }
+        return Arrays.stream(sentence.split("\\s+")).anyMatch(preppedWord::equalsIgnoreCase);
+    }
+
+}
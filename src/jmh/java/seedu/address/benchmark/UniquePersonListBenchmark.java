@@ -0,0 +1,82 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Benchmarks the lookups and updates of {@link UniquePersonList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int rosterSize;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person lastPerson;
+    private Person newPerson;
+    private Person editedPerson;
+
+    @Setup
+    public void setUp() {
+        persons = RosterGenerator.generatePersons(rosterSize);
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        lastPerson = persons.get(rosterSize - 1);
+        newPerson = RosterGenerator.generatePerson(rosterSize);
+        editedPerson = lastPerson.withCaptain(!lastPerson.isCaptain());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return personList.contains(lastPerson);
+    }
+
+    @Benchmark
+    public Person getPersonByName() {
+        return personList.getPersonByName(lastPerson.getName());
+    }
+
+    @Benchmark
+    public UniquePersonList addThenRemove() {
+        personList.add(newPerson);
+        personList.remove(newPerson);
+        return personList;
+    }
+
+    @Benchmark
+    public UniquePersonList setPersonTwice() {
+        personList.setPerson(lastPerson, editedPerson);
+        personList.setPerson(editedPerson, lastPerson);
+        return personList;
+    }
+
+    @Benchmark
+    public UniquePersonList setPersons() {
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        return list;
+    }
+
+}
@@ -0,0 +1,130 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * An entry point that runs commands without the JavaFX user interface, for scheduled jobs and servers without a
+ * display. It wires up the storage, model and logic as the application does, but never starts the JavaFX toolkit or
+ * loads any FXML, and so does not depend on any JavaFX class outside of {@code javafx.collections}.
+ *
+ * Commands are read one per line from the file given as the only unnamed argument, or from the standard input if
+ * there is none, and the result of each is printed. Blank lines and lines starting with # are skipped. Every command
+ * runs and is saved on its own, as if typed into the application; use the {@code batch} command to run a file as a
+ * single change instead.
+ */
+public class HeadlessMain {
+    public static final String MESSAGE_USAGE =
+            "Usage: java -cp playbook.jar seedu.address.HeadlessMain [--config=CONFIG_FILE] [COMMAND_FILE]";
+    public static final String MESSAGE_CANNOT_READ_COMMANDS = "Could not read commands from %1$s: %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Error: %1$s";
+
+    /** The exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** The exit status when at least one command failed. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** The exit status when the arguments are invalid or the commands cannot be read. */
+    public static final int EXIT_USAGE_ERROR = 2;
+
+    private static final String NAMED_ARGUMENT_MARKER = "--";
+    private static final String CONFIG_ARGUMENT = NAMED_ARGUMENT_MARKER + "config=";
+    private static final String COMMENT_MARKER = "#";
+    private static final Logger logger = LogsCenter.getLogger(HeadlessMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the commands selected by {@code args} against the data selected by the config file, and returns the exit
+     * status.
+     */
+    static int run(String[] args, InputStream stdin, PrintStream out, PrintStream err) {
+        String configPath = null;
+        List<String> unnamedArguments = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith(NAMED_ARGUMENT_MARKER)) {
+                unnamedArguments.add(arg);
+            } else if (arg.startsWith(CONFIG_ARGUMENT)
+                    && FileUtil.isValidPath(arg.substring(CONFIG_ARGUMENT.length()))) {
+                configPath = arg.substring(CONFIG_ARGUMENT.length());
+            } else {
+                err.println(MESSAGE_USAGE);
+                return EXIT_USAGE_ERROR;
+            }
+        }
+        if (unnamedArguments.size() > 1) {
+            err.println(MESSAGE_USAGE);
+            return EXIT_USAGE_ERROR;
+        }
+
+        String source = unnamedArguments.isEmpty() ? "standard input" : unnamedArguments.get(0);
+        BufferedReader input;
+        try {
+            input = unnamedArguments.isEmpty()
+                    ? new BufferedReader(new InputStreamReader(stdin, StandardCharsets.UTF_8))
+                    : Files.newBufferedReader(Paths.get(source), StandardCharsets.UTF_8);
+        } catch (IOException | InvalidPathException e) {
+            err.println(String.format(MESSAGE_CANNOT_READ_COMMANDS, source, e.getMessage()));
+            return EXIT_USAGE_ERROR;
+        }
+
+        logger.info("=============================[ Running PlayBook headless ]===========================");
+        AppCore core = new AppCore(configPath == null ? null : Paths.get(configPath));
+        core.getLogic().setSaveFailureHandler(err::println);
+        try (BufferedReader reader = input) {
+            return runCommands(core.getLogic(), reader, out, err);
+        } catch (IOException ioe) {
+            err.println(String.format(MESSAGE_CANNOT_READ_COMMANDS, source, ioe.getMessage()));
+            return EXIT_USAGE_ERROR;
+        } finally {
+            core.stop();
+        }
+    }
+
+    /**
+     * Executes every command read from {@code input} with {@code logic}, until the input ends or a command asks the
+     * application to exit. The feedback of each command is printed to {@code out}, and the error of each failed
+     * command to {@code err}.
+     *
+     * @return {@link #EXIT_SUCCESS} if every command succeeded, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     */
+    static int runCommands(Logic logic, BufferedReader input, PrintStream out, PrintStream err) throws IOException {
+        int exitStatus = EXIT_SUCCESS;
+        for (String line = input.readLine(); line != null; line = input.readLine()) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                err.println(String.format(MESSAGE_COMMAND_FAILED, e.getMessage()));
+                exitStatus = EXIT_COMMAND_FAILED;
+            }
+        }
+        return exitStatus;
+    }
+}
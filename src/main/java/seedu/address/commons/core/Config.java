@@ -13,10 +13,15 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean saveInBackground = false;
+    private boolean saveAtomically = true;
+    private int dataFileBackupCount = 0;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +39,51 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if address book data should be written by a background thread instead of
+     * the thread that executes commands.
+     */
+    public boolean isSaveInBackground() {
+        return saveInBackground;
+    }
+
+    public void setSaveInBackground(boolean saveInBackground) {
+        this.saveInBackground = saveInBackground;
+    }
+
+    /**
+     * Returns true if the data file should be replaced atomically on each save, rather than overwritten in place.
+     */
+    public boolean isSaveAtomically() {
+        return saveAtomically;
+    }
+
+    public void setSaveAtomically(boolean saveAtomically) {
+        this.saveAtomically = saveAtomically;
+    }
+
+    /**
+     * Returns the number of previous versions of the data file to keep when saving atomically.
+     */
+    public int getDataFileBackupCount() {
+        return dataFileBackupCount;
+    }
+
+    public void setDataFileBackupCount(int dataFileBackupCount) {
+        this.dataFileBackupCount = dataFileBackupCount;
+    }
+
+    /**
+     * Returns the number of previous states of the address book that can be undone.
+     */
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +97,17 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveInBackground == otherConfig.saveInBackground
+                && saveAtomically == otherConfig.saveAtomically
+                && dataFileBackupCount == otherConfig.dataFileBackupCount
+                && undoHistoryDepth == otherConfig.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveInBackground, saveAtomically, dataFileBackupCount,
+                undoHistoryDepth);
     }
 
     @Override
@@ -60,6 +115,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveInBackground", saveInBackground)
+                .add("saveAtomically", saveAtomically)
+                .add("dataFileBackupCount", dataFileBackupCount)
+                .add("undoHistoryDepth", undoHistoryDepth)
                 .toString();
     }
 
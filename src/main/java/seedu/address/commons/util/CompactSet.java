@@ -0,0 +1,188 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by a single array, for the small sets held by every person, such as their tags.
+ * It takes a fraction of the memory of a {@code HashSet}, and copying a {@code CompactSet} with
+ * {@link #copyOf(Collection)} returns the same instance, so that unchanged sets are shared between the versions of
+ * an immutable object.
+ * <p>
+ * The elements are kept in the order of their hash codes, and are looked up by binary search on the hash code.
+ * The set does not allow nulls. Any attempt to modify it throws {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class CompactSet<E> extends AbstractSet<E> {
+
+    private static final CompactSet<?> EMPTY = new CompactSet<>(new Object[0], new int[0]);
+
+    private final Object[] elements;
+    private final int[] hashes;
+    private final int hashCode;
+
+    private CompactSet(Object[] elements, int[] hashes) {
+        this.elements = elements;
+        this.hashes = hashes;
+        this.hashCode = Arrays.stream(hashes).sum();
+    }
+
+    /**
+     * Returns an immutable set of the distinct elements of {@code values}.
+     * If {@code values} is already a {@code CompactSet}, it is returned as is.
+     *
+     * @throws NullPointerException if {@code values} or any of its elements is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> Set<E> copyOf(Collection<? extends E> values) {
+        requireNonNull(values);
+        if (values instanceof CompactSet) {
+            return (CompactSet<E>) values;
+        }
+        if (values.isEmpty()) {
+            return (CompactSet<E>) EMPTY;
+        }
+
+        Object[] sorted = values.toArray();
+        for (Object value : sorted) {
+            requireNonNull(value);
+        }
+        Arrays.sort(sorted, Comparator.comparingInt(Object::hashCode));
+
+        Object[] elements = new Object[sorted.length];
+        int[] hashes = new int[sorted.length];
+        int size = 0;
+        for (Object value : sorted) {
+            int hash = value.hashCode();
+            if (indexOf(elements, hashes, size, value, hash) < 0) {
+                elements[size] = value;
+                hashes[size] = hash;
+                size++;
+            }
+        }
+        if (size < sorted.length) {
+            elements = Arrays.copyOf(elements, size);
+            hashes = Arrays.copyOf(hashes, size);
+        }
+        return new CompactSet<>(elements, hashes);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && indexOf(elements, hashes, elements.length, o, o.hashCode()) >= 0;
+    }
+
+    /**
+     * Returns the index of {@code value} among the first {@code size} of {@code elements}, whose hash codes are the
+     * sorted {@code hashes}, or -1 if it is not there.
+     */
+    private static int indexOf(Object[] elements, int[] hashes, int size, Object value, int hash) {
+        int index = Arrays.binarySearch(hashes, 0, size, hash);
+        if (index < 0) {
+            return -1;
+        }
+        // Scan the run of elements sharing the hash code on both sides of the one found
+        while (index > 0 && hashes[index - 1] == hash) {
+            index--;
+        }
+        while (index < size && hashes[index] == hash) {
+            if (elements[index].equals(value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return (E) elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return elements.clone();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof CompactSet && hashCode != other.hashCode()) {
+            return false;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+}
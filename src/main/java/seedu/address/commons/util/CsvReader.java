@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, so that files of any size can be read in constant memory.
+ * Follows RFC 4180: fields may be enclosed in double quotes, in which case they may contain commas, line breaks and
+ * doubled double quotes standing for one double quote. Records may end with either LF or CRLF, and a byte order
+ * mark at the start of the input, as written by some spreadsheet programs, is skipped.
+ */
+public class CsvReader implements Closeable {
+
+    private static final int END_OF_INPUT = -1;
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pending = END_OF_INPUT;
+    private boolean hasPending;
+    private boolean isAtStart = true;
+
+    /**
+     * Creates a CsvReader that reads from {@code reader}, which should be buffered.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = read();
+        if (isAtStart && c == BYTE_ORDER_MARK) {
+            c = read();
+        }
+        isAtStart = false;
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        List<String> record = new ArrayList<>();
+        boolean isQuoted = false;
+        while (true) {
+            if (isQuoted) {
+                if (c == END_OF_INPUT) {
+                    // An unterminated quote runs to the end of the input
+                    record.add(takeField());
+                    return record;
+                } else if (c != '"') {
+                    field.append((char) c);
+                } else if (peek() == '"') {
+                    field.append('"');
+                    read();
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == ',') {
+                record.add(takeField());
+            } else if (c == '\n' || c == END_OF_INPUT) {
+                record.add(takeField());
+                return record;
+            } else if (c == '\r' && peek() == '\n') {
+                read();
+                record.add(takeField());
+                return record;
+            } else if (c == '"' && field.length() == 0) {
+                isQuoted = true;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String takeField() {
+        String value = field.toString();
+        field.setLength(0);
+        return value;
+    }
+
+    private int read() throws IOException {
+        if (hasPending) {
+            hasPending = false;
+            return pending;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (!hasPending) {
+            pending = reader.read();
+            hasPending = true;
+        }
+        return pending;
+    }
+}
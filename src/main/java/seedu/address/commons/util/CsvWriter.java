@@ -0,0 +1,122 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.function.Function;
+
+/**
+ * Writes comma-separated values one field at a time, straight to a {@code Writer}, so that any number of records
+ * can be written without building a string for each of them.
+ * Follows RFC 4180, as read by {@link CsvReader}: a field that holds a comma, a double quote or a line break is
+ * enclosed in double quotes, with each double quote in it doubled, and records end with CRLF.
+ */
+public class CsvWriter implements Flushable {
+
+    private static final String RECORD_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private boolean isAtRecordStart = true;
+
+    /**
+     * Creates a CsvWriter that writes to {@code writer}, which should be buffered.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes {@code value} as the next field of the current record.
+     */
+    public void writeField(String value) throws IOException {
+        requireNonNull(value);
+        startField();
+        if (needsQuotes(value)) {
+            writer.write('"');
+            writeEscaped(value);
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+
+    /**
+     * Writes the text of each of {@code values}, separated by {@code separator}, as the next field of the current
+     * record.
+     */
+    public <T> void writeField(Iterable<T> values, Function<? super T, String> toText, char separator)
+            throws IOException {
+        requireNonNull(values);
+        requireNonNull(toText);
+        boolean isQuoted = needsQuotes(separator);
+        for (T value : values) {
+            isQuoted = isQuoted || needsQuotes(toText.apply(value));
+        }
+
+        startField();
+        if (isQuoted) {
+            writer.write('"');
+        }
+        boolean isFirst = true;
+        for (T value : values) {
+            if (!isFirst) {
+                writer.write(separator);
+            }
+            writeEscaped(toText.apply(value));
+            isFirst = false;
+        }
+        if (isQuoted) {
+            writer.write('"');
+        }
+    }
+
+    /**
+     * Ends the current record, so that the next field starts a new one.
+     */
+    public void endRecord() throws IOException {
+        writer.write(RECORD_SEPARATOR);
+        isAtRecordStart = true;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void startField() throws IOException {
+        if (!isAtRecordStart) {
+            writer.write(',');
+        }
+        isAtRecordStart = false;
+    }
+
+    /**
+     * Writes {@code value} with each double quote doubled, in runs of characters rather than one at a time.
+     */
+    private void writeEscaped(String value) throws IOException {
+        int runStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == '"') {
+                writer.write(value, runStart, i + 1 - runStart);
+                runStart = i;
+            }
+        }
+        writer.write(value, runStart, value.length() - runStart);
+    }
+
+    private static boolean needsQuotes(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (needsQuotes(value.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean needsQuotes(char c) {
+        return c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+}
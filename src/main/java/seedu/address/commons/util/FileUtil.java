@@ -1,17 +1,42 @@
 package seedu.address.commons.util;
 
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.UUID;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which must not be closed.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +105,110 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes the content produced by {@code writer} to a file, in place.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFile(Path file, ContentWriter writer) throws IOException {
+        requireNonNull(writer);
+        createIfMissing(file);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            writer.writeTo(out);
+        }
+    }
+
+    /**
+     * Replaces a file with the content produced by {@code writer}, so that the file holds either its old or its
+     * new content even if the app or the system crashes part way.
+     * The content is written to a temporary file next to {@code file} and forced to the disk, which is then given
+     * the permissions of {@code file} and moved over it. Before the move, the old file becomes backup 1 and the
+     * backups before it are each moved one place up, keeping at most {@code backupCount} of them. After the move,
+     * the directory is forced to the disk as well where the platform allows it.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer, int backupCount) throws IOException {
+        requireNonNull(writer);
+        Path targetFile = file.toAbsolutePath();
+        createParentDirsOfFile(targetFile);
+
+        // Unlike Files.createTempFile, this creates the file with the same default permissions as any other file
+        Path tempFile = targetFile.resolveSibling(targetFile.getFileName() + "." + UUID.randomUUID()
+                + TEMP_FILE_SUFFIX);
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            if (isFileExists(targetFile)) {
+                copyPermissions(targetFile, tempFile);
+                if (backupCount > 0) {
+                    rotateBackups(targetFile, backupCount);
+                }
+            }
+            moveAtomically(tempFile, targetFile);
+            forceDirectory(targetFile.getParent());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the given backup of {@code file}, where backup 1 is the most recent.
+     */
+    public static Path getBackupFilePath(Path file, int backupNumber) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + backupNumber);
+    }
+
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int backupNumber = backupCount - 1; backupNumber >= 1; backupNumber--) {
+            Path backup = getBackupFilePath(file, backupNumber);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, backupNumber + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        // A hard link keeps the old content once the file is replaced, without copying it
+        Path latestBackup = getBackupFilePath(file, 1);
+        try {
+            Files.createLink(latestBackup, file);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(file, latestBackup, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Gives {@code target} the POSIX permissions of {@code source}, if the file system supports them.
+     */
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        PosixFileAttributeView targetView = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (sourceView != null && targetView != null) {
+            targetView.setPermissions(sourceView.readAttributes().permissions());
+        }
+    }
+
+    /**
+     * Forces the entries of {@code directory} to the disk, so that a file moved into it survives a power loss.
+     * Does nothing where directories cannot be opened, as on Windows.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // the move itself has succeeded, it is only not guaranteed to be on the disk yet
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
 }
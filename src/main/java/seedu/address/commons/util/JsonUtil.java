@@ -2,7 +2,9 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,10 +13,14 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -39,6 +45,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Values written into a streamed document should stay in the generator's buffer until the document is done
+    private static final ObjectWriter streamingWriter = objectMapper.writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -111,6 +121,67 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Returns a generator that writes pretty-printed UTF-8 JSON to {@code out}.
+     * Closing the generator flushes {@code out} but does not close it.
+     * Together with {@link #writeValue(JsonGenerator, Object)}, this allows a large document to be written
+     * one part at a time instead of being built as a single string first.
+     */
+    public static JsonGenerator createJsonGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator.useDefaultPrettyPrinter();
+    }
+
+    /**
+     * Returns a generator that writes compact UTF-8 JSON to {@code out}, with nothing between top-level values, so
+     * that the caller can end each value with a line break as in the JSON Lines format.
+     * Closing the generator flushes {@code out} but does not close it.
+     */
+    public static JsonGenerator createJsonLinesGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator.setRootValueSeparator(null);
+    }
+
+    /**
+     * Returns a parser that reads JSON from {@code filePath} through a buffered stream.
+     * Closing the parser closes the file.
+     * Together with {@link #readValue(JsonParser, Class)}, this allows a large document to be read
+     * one part at a time instead of being loaded into a single string first.
+     */
+    public static JsonParser createJsonFileParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.getFactory().createParser(new BufferedInputStream(Files.newInputStream(filePath)));
+    }
+
+    /**
+     * Writes {@code value} as the next JSON value of {@code generator}.
+     */
+    public static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        streamingWriter.writeValue(generator, value);
+    }
+
+    /**
+     * Reads the JSON value that starts at the current token of {@code parser} as an instance of {@code valueClass}.
+     * The parser is left at the last token of that value.
+     */
+    public static <T> T readValue(JsonParser parser, Class<T> valueClass) throws IOException {
+        return objectMapper.readValue(parser, valueClass);
+    }
+
+    /**
+     * Converts a given instance of a class into a JSON string that fits on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
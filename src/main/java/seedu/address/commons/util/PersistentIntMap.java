@@ -0,0 +1,192 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable map from non-negative {@code int} keys to values, iterated in ascending key order.
+ * <p>
+ * The map is a trie of 32-slot arrays indexed by successive 5-bit digits of the key. Adding or removing a key
+ * copies only the arrays on the path from the root to that key, and the new map shares every other array with the
+ * old one. Keeping many versions of a large map therefore costs memory in proportion to the number of changes
+ * between them, not to the size of the map.
+ *
+ * @param <V> the type of the values.
+ */
+public final class PersistentIntMap<V> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentIntMap<?> EMPTY = new PersistentIntMap<>(null, 0, 0);
+
+    /** The root array, or null if the map is empty. */
+    private final Object[] root;
+    /** How far keys are shifted to find their digit in the root; 0 if the root holds the values. */
+    private final int shift;
+    private final int size;
+
+    private PersistentIntMap(Object[] root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> PersistentIntMap<V> empty() {
+        return (PersistentIntMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns a map from each index of {@code values} to the value at that index.
+     * This builds the trie in one pass, without the intermediate copies of adding the values one at a time.
+     *
+     * @throws NullPointerException if {@code values} or any of its elements is null.
+     */
+    public static <V> PersistentIntMap<V> of(List<? extends V> values) {
+        requireNonNull(values);
+        if (values.isEmpty()) {
+            return empty();
+        }
+
+        Object[] level = new Object[(values.size() + MASK) / WIDTH];
+        for (int i = 0; i < values.size(); i++) {
+            if (i % WIDTH == 0) {
+                level[i / WIDTH] = new Object[WIDTH];
+            }
+            ((Object[]) level[i / WIDTH])[i % WIDTH] = requireNonNull(values.get(i));
+        }
+        int shift = 0;
+        while (level.length > 1) {
+            Object[] parents = new Object[(level.length + MASK) / WIDTH];
+            for (int i = 0; i < level.length; i++) {
+                if (i % WIDTH == 0) {
+                    parents[i / WIDTH] = new Object[WIDTH];
+                }
+                ((Object[]) parents[i / WIDTH])[i % WIDTH] = level[i];
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentIntMap<>((Object[]) level[0], shift, values.size());
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map has no such key.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int key) {
+        if (key < 0 || !fits(key, shift) || root == null) {
+            return null;
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(key >>> level) & MASK];
+            if (node == null) {
+                return null;
+            }
+        }
+        return (V) node[key & MASK];
+    }
+
+    /**
+     * Returns a map with {@code key} mapped to {@code value} and the other keys of this map unchanged.
+     */
+    public PersistentIntMap<V> with(int key, V value) {
+        checkArgument(key >= 0, "Key cannot be negative");
+        requireNonNull(value);
+        Object[] newRoot = root;
+        int newShift = shift;
+        while (!fits(key, newShift)) {
+            if (newRoot != null) {
+                Object[] parent = new Object[WIDTH];
+                parent[0] = newRoot;
+                newRoot = parent;
+            }
+            newShift += BITS;
+        }
+        int newSize = get(key) == null ? size + 1 : size;
+        return new PersistentIntMap<>(with(newRoot, newShift, key, value), newShift, newSize);
+    }
+
+    /**
+     * Returns a map without {@code key} and with the other keys of this map unchanged.
+     */
+    public PersistentIntMap<V> without(int key) {
+        if (get(key) == null) {
+            return this;
+        }
+        Object[] newRoot = without(root, shift, key);
+        return newRoot == null ? empty() : new PersistentIntMap<>(newRoot, shift, size - 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Passes every key of the map and its value to {@code action}, in ascending key order.
+     */
+    public void forEach(BiConsumer<Integer, ? super V> action) {
+        requireNonNull(action);
+        if (root != null) {
+            forEach(root, shift, 0, action);
+        }
+    }
+
+    /**
+     * Returns true if keys up to {@code key} fit in a trie whose root is shifted by {@code shift}.
+     */
+    private static boolean fits(int key, int shift) {
+        return shift + BITS >= Integer.SIZE || (key >>> (shift + BITS)) == 0;
+    }
+
+    private static Object[] with(Object[] node, int shift, int key, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int index = (key >>> shift) & MASK;
+        copy[index] = shift == 0 ? value : with((Object[]) copy[index], shift - BITS, key, value);
+        return copy;
+    }
+
+    /**
+     * Returns a copy of {@code node} without {@code key}, or null if the copy would be empty.
+     */
+    private static Object[] without(Object[] node, int shift, int key) {
+        Object[] copy = node.clone();
+        int index = (key >>> shift) & MASK;
+        copy[index] = shift == 0 ? null : without((Object[]) copy[index], shift - BITS, key);
+        for (Object slot : copy) {
+            if (slot != null) {
+                return copy;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> void forEach(Object[] node, int shift, int keyPrefix, BiConsumer<Integer, ? super V> action) {
+        for (int index = 0; index < WIDTH; index++) {
+            Object slot = node[index];
+            if (slot == null) {
+                continue;
+            }
+            int key = keyPrefix | (index << shift);
+            if (shift == 0) {
+                action.accept(key, (V) slot);
+            } else {
+                forEach((Object[]) slot, shift - BITS, key, action);
+            }
+        }
+    }
+
+}
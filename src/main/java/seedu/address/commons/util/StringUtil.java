@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -20,6 +19,8 @@ public class StringUtil {
      *       containsWordIgnoreCase("ABc def", "DEF") == true
      *       containsWordIgnoreCase("ABc def", "AB") == false //not a full word match
      *       </pre>
+     * Words are separated by whitespace as matched by the regex {@code \s}. The words of {@code sentence} are
+     * compared in place, so that no objects are allocated.
      * @param sentence cannot be null
      * @param word cannot be null, cannot be empty, must be a single word
      */
@@ -27,15 +28,104 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        // Bounds of word.trim(), without the copy
+        int wordStart = 0;
+        int wordEnd = word.length();
+        while (wordStart < wordEnd && word.charAt(wordStart) <= ' ') {
+            wordStart++;
+        }
+        while (wordEnd > wordStart && word.charAt(wordEnd - 1) <= ' ') {
+            wordEnd--;
+        }
+        checkArgument(wordStart < wordEnd, "Word parameter cannot be empty");
+        checkArgument(indexOfWhitespace(word, wordStart, wordEnd) == wordEnd, "Word parameter should be a single word");
+
+        int wordLength = wordEnd - wordStart;
+        int sentenceLength = sentence.length();
+        int sentenceWordStart = 0;
+        while (sentenceWordStart < sentenceLength) {
+            int sentenceWordEnd = indexOfWhitespace(sentence, sentenceWordStart, sentenceLength);
+            if (sentenceWordEnd - sentenceWordStart == wordLength
+                    && sentence.regionMatches(true, sentenceWordStart, word, wordStart, wordLength)) {
+                return true;
+            }
+            sentenceWordStart = sentenceWordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first whitespace character of {@code s} in {@code [from, to)}, or {@code to}.
+     */
+    private static int indexOfWhitespace(String s, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r') {
+                return i;
+            }
+        }
+        return to;
+    }
 
-        String preppedSentence = sentence;
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
+    /**
+     * Returns the edit distance between {@code first} and {@code second}, ignoring case, if it is at most
+     * {@code maxDistance}, or {@code maxDistance + 1} otherwise.
+     * The edit distance is the number of single character insertions, deletions and substitutions needed to turn one
+     * string into the other. Only the cells of the dynamic programming table within {@code maxDistance} of the
+     * diagonal are computed, so the cost is proportional to the length of the strings times {@code maxDistance}.
+     *   <br>examples:<pre>
+     *       editDistanceIgnoreCase("Jonh", "john", 2) == 2
+     *       editDistanceIgnoreCase("Smith", "smyth", 2) == 1
+     *       editDistanceIgnoreCase("Alex", "Alexander", 2) == 3 //more than maxDistance
+     *       </pre>
+     * @param first cannot be null
+     * @param second cannot be null
+     * @param maxDistance cannot be negative
+     */
+    public static int editDistanceIgnoreCase(String first, String second, int maxDistance) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxDistance >= 0, "Maximum distance cannot be negative");
 
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(preppedWord::equalsIgnoreCase);
+        int firstLength = first.length();
+        int secondLength = second.length();
+        if (Math.abs(firstLength - secondLength) > maxDistance) {
+            return maxDistance + 1;
+        }
+
+        int outOfBand = maxDistance + 1;
+        int[] previousRow = new int[secondLength + 1];
+        int[] currentRow = new int[secondLength + 1];
+        for (int j = 0; j <= secondLength; j++) {
+            previousRow[j] = Math.min(j, outOfBand);
+        }
+        for (int i = 1; i <= firstLength; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(secondLength, i + maxDistance);
+            currentRow[0] = Math.min(i, outOfBand);
+            if (from > 1) {
+                currentRow[from - 1] = outOfBand;
+            }
+            int rowMinimum = currentRow[0];
+            char firstChar = Character.toLowerCase(first.charAt(i - 1));
+            for (int j = from; j <= to; j++) {
+                int substitutionCost = firstChar == Character.toLowerCase(second.charAt(j - 1)) ? 0 : 1;
+                int distance = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                currentRow[j] = Math.min(distance, outOfBand);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (to < secondLength) {
+                currentRow[to + 1] = outOfBand;
+            }
+            if (rowMinimum > maxDistance) {
+                return outOfBand;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[secondLength];
     }
 
     /**
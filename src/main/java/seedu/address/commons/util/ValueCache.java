@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe cache of immutable values keyed by the string they are created from, so that the values created from
+ * the same string share one instance.
+ * The cache holds at most a fixed number of values. Once it is full, further values are still created, but not kept.
+ *
+ * @param <V> the type of the cached values.
+ */
+public class ValueCache<V> {
+
+    private final int capacity;
+    private final Function<String, V> factory;
+    private final Map<String, V> values = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an empty cache of at most {@code capacity} values, which are created by {@code factory}.
+     */
+    public ValueCache(int capacity, Function<String, V> factory) {
+        requireNonNull(factory);
+        checkArgument(capacity >= 0, "Capacity cannot be negative");
+        this.capacity = capacity;
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the cached value for {@code key}, creating it if it is not cached yet.
+     * Exceptions thrown by the factory, such as for an invalid {@code key}, are passed on and nothing is cached.
+     */
+    public V get(String key) {
+        V value = values.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = factory.apply(key);
+        if (values.size() < capacity) {
+            V cachedValue = values.putIfAbsent(key, value);
+            if (cachedValue != null) {
+                return cachedValue;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of cached values.
+     */
+    public int size() {
+        return values.size();
+    }
+
+}
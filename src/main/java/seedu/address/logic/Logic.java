@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes every command in the script file at {@code scriptFile} as a single change, which is saved once.
+     * If any command fails, none of the changes are kept.
+     * @param scriptFile The script file, which has one command per line.
+     * @return the result of the script execution.
+     * @throws CommandException If an error occurs during command execution.
+     * @throws ParseException If the script cannot be read or any of its commands cannot be parsed.
+     */
+    CommandResult executeScript(Path scriptFile) throws CommandException, ParseException;
+
+    /**
+     * Sets the handler that is given the message to show the user when saving the data fails after the command
+     * that changed it has completed, as happens when saving in the background.
+     * The handler may be called on a thread other than the one that executes commands.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +15,7 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.BatchCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,40 +33,93 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    /** A version that no address book has, so that the next command always saves. */
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    // Moved back by a failed background save, so that the next command saves again even if it changes nothing
+    private volatile long lastSavedVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The current state of {@code model} is assumed to match what is in {@code storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        lastSavedVersion = model.getAddressBookVersion();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        return executeCommand(command);
+    }
+
+    @Override
+    public CommandResult executeScript(Path scriptFile) throws CommandException, ParseException {
+        logger.info("----------------[SCRIPT][" + scriptFile + "]");
+
+        Command command = new BatchCommandParser().parseScript(scriptFile);
+        return executeCommand(command);
+    }
+
+    /**
+     * Executes {@code command}, then records and saves the address book if the command changed it.
+     */
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+        model.commitAddressBook();
+
+        // Read-only commands leave the version untouched, so there is nothing new to persist
+        long currentVersion = model.getAddressBookVersion();
+        if (currentVersion == lastSavedVersion) {
+            return commandResult;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            lastSavedVersion = currentVersion;
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(formatSaveFailure(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Marks the address book as unsaved after a background save failed, and reports the failure.
+     */
+    private void handleSaveFailure(IOException failure) {
+        lastSavedVersion = UNSAVED_VERSION;
+        saveFailureHandler.accept(formatSaveFailure(failure));
+    }
+
+    /**
+     * Returns the message that tells the user why the data could not be saved.
+     */
+    private static String formatSaveFailure(IOException failure) {
+        if (failure instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, failure.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, failure.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,115 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_POSITIONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TEAMS;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands of a script file as a single change to the PlayBook.
+ * The commands run against a working copy of the PlayBook, which replaces the PlayBook in one step only if every
+ * command succeeds and changed something. The PlayBook is therefore saved once and each of its lists changes at most
+ * once, however many commands the script has, and a failing command leaves it untouched. Building the working copy
+ * indexes every person once, but replacing the PlayBook only indexes the persons the script changed.
+ */
+public class BatchCommand extends Command {
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "as a single change. Blank lines and lines starting with # are skipped. "
+            + "If any command fails, none of the changes are kept.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " preseason.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d of the script failed, so no changes were made: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommand.class);
+
+    private final Path scriptFile;
+    private final List<Command> commands;
+    private final List<Integer> lineNumbers;
+
+    /**
+     * Creates a BatchCommand that runs {@code commands}, which were read from the given lines of
+     * {@code scriptFile}.
+     */
+    public BatchCommand(Path scriptFile, List<Command> commands, List<Integer> lineNumbers) {
+        requireAllNonNull(scriptFile, commands, lineNumbers);
+        checkArgument(commands.size() == lineNumbers.size(), "Every command must have a line number");
+        this.scriptFile = scriptFile;
+        this.commands = List.copyOf(commands);
+        this.lineNumbers = List.copyOf(lineNumbers);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        // The working copy keeps no undo history: the whole batch is committed as one change to the real model
+        Model workingModel = new ModelManager(model.getAddressBook(), model.getUserPrefs(), 0);
+        long initialVersion = workingModel.getAddressBookVersion();
+        for (int i = 0; i < commands.size(); i++) {
+            try {
+                commands.get(i).execute(workingModel);
+            } catch (CommandException ce) {
+                logger.log(Level.WARNING, "Script {0} failed at line {1}",
+                        new Object[] {scriptFile, lineNumbers.get(i)});
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, lineNumbers.get(i), ce.getMessage()),
+                        ce);
+            }
+        }
+
+        // A script that changed nothing must not count as a change to undo or save
+        if (workingModel.getAddressBookVersion() != initialVersion) {
+            model.setAddressBook(workingModel.getAddressBook());
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTeamList(PREDICATE_SHOW_ALL_TEAMS);
+        model.updateFilteredPositionList(PREDICATE_SHOW_ALL_POSITIONS);
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return CommandResult.showPersonCommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptFile));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return scriptFile.equals(otherBatchCommand.scriptFile)
+                && commands.equals(otherBatchCommand.commands)
+                && lineNumbers.equals(otherBatchCommand.lineNumbers);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptFile", scriptFile)
+                .add("commands", commands)
+                .add("lineNumbers", lineNumbers)
+                .toString();
+    }
+}
@@ -0,0 +1,251 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INJURY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes players of the PlayBook to a CSV or JSON Lines file: either the players in the displayed list, or the
+ * players in the whole PlayBook that match the criteria of a {@link FilterCommand}.
+ * Each player is written field by field to a buffered stream as the list is walked, so the size of the export is
+ * not limited by memory. The file is only replaced once the export is complete.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the players in the displayed list, or the "
+            + "players matching the given criteria, to a file. A file name ending in .csv gives a CSV file and one "
+            + "ending in .jsonl gives a JSON Lines file.\n"
+            + "Parameters: FILE_PATH "
+            + "[" + PREFIX_TEAM + "TEAM_NAME] "
+            + "[" + PREFIX_INJURY + "INJURY] "
+            + "[" + PREFIX_POSITION + "POSITION]\n"
+            + "Example: " + COMMAND_WORD + " physio.csv "
+            + PREFIX_TEAM + "U16 "
+            + PREFIX_INJURY + "ACL "
+            + PREFIX_POSITION + "DF";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d player(s) to %2$s";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write to the file %1$s";
+
+    /** The column written after the columns that {@code import} reads, which {@code import} ignores. */
+    public static final String COLUMN_CAPTAIN = "captain";
+
+    private static final List<String> CSV_COLUMNS = List.of(PersonCsvParser.COLUMN_NAME,
+            PersonCsvParser.COLUMN_PHONE, PersonCsvParser.COLUMN_EMAIL, PersonCsvParser.COLUMN_ADDRESS,
+            PersonCsvParser.COLUMN_TEAM, PersonCsvParser.COLUMN_POSITION, PersonCsvParser.COLUMN_INJURIES,
+            PersonCsvParser.COLUMN_TAGS, COLUMN_CAPTAIN);
+    private static final char VALUE_SEPARATOR = PersonCsvParser.VALUE_SEPARATOR.charAt(0);
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    /**
+     * The file formats that players can be exported in.
+     */
+    public enum Format {
+        CSV(".csv"),
+        JSON_LINES(".jsonl");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * Returns the format whose extension {@code fileName} ends in, ignoring case, if any.
+         */
+        public static Optional<Format> fromFileName(String fileName) {
+            requireNonNull(fileName);
+            String lowerCaseFileName = fileName.toLowerCase(Locale.ROOT);
+            for (Format format : values()) {
+                if (lowerCaseFileName.endsWith(format.extension)) {
+                    return Optional.of(format);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private final Path file;
+    private final Format format;
+    private final Optional<FilterCommand> filter;
+
+    /**
+     * Creates an ExportCommand to write to {@code file} in the given {@code format} the players matching
+     * {@code filter}, or the players in the displayed list if there is no filter.
+     */
+    public ExportCommand(Path file, Format format, Optional<FilterCommand> filter) {
+        requireAllNonNull(file, format, filter);
+        this.file = file;
+        this.format = format;
+        this.filter = filter;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        List<Person> persons;
+        Predicate<Person> predicate;
+        if (filter.isPresent()) {
+            persons = model.getAddressBook().getPersonList();
+            predicate = filter.get().getPersonFilter(model);
+        } else {
+            persons = model.getFilteredPersonList();
+            predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        }
+
+        // The export is written to a temporary file that replaces the file only once complete, so that a failed
+        // export leaves any existing file as it was
+        int[] exportedCount = new int[1];
+        try {
+            FileUtil.writeToFileAtomically(file, out -> exportedCount[0] = format == Format.CSV
+                    ? writeCsv(persons, predicate, out)
+                    : writeJsonLines(persons, predicate, out), 0);
+        } catch (IOException ioe) {
+            logger.log(Level.WARNING, "Could not export to " + file, ioe);
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, file), ioe);
+        }
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, exportedCount[0], file));
+    }
+
+    /**
+     * Writes the persons in {@code persons} that match {@code predicate} to {@code out} as CSV, with a header row
+     * that {@code import} can read back.
+     *
+     * @return the number of persons written.
+     */
+    private static int writeCsv(List<Person> persons, Predicate<Person> predicate, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        CsvWriter csvWriter = new CsvWriter(writer);
+        for (String column : CSV_COLUMNS) {
+            csvWriter.writeField(column);
+        }
+        csvWriter.endRecord();
+
+        int count = 0;
+        for (Person person : persons) {
+            if (!predicate.test(person)) {
+                continue;
+            }
+            csvWriter.writeField(person.getName().fullName);
+            csvWriter.writeField(person.getPhone().value);
+            csvWriter.writeField(person.getEmail().value);
+            csvWriter.writeField(person.getAddress().value);
+            csvWriter.writeField(person.getTeam().getName());
+            csvWriter.writeField(person.getPosition().getName());
+            csvWriter.writeField(person.getInjuries(), Injury::getInjuryName, VALUE_SEPARATOR);
+            csvWriter.writeField(person.getTags(), tag -> tag.tagName, VALUE_SEPARATOR);
+            csvWriter.writeField(Boolean.toString(person.isCaptain()));
+            csvWriter.endRecord();
+            count++;
+        }
+        csvWriter.flush();
+        return count;
+    }
+
+    /**
+     * Writes the persons in {@code persons} that match {@code predicate} to {@code out} as JSON Lines, one object
+     * per person with the same fields as the CSV columns.
+     *
+     * @return the number of persons written.
+     */
+    private static int writeJsonLines(List<Person> persons, Predicate<Person> predicate, OutputStream out)
+            throws IOException {
+        int count = 0;
+        try (JsonGenerator generator = JsonUtil.createJsonLinesGenerator(out)) {
+            for (Person person : persons) {
+                if (!predicate.test(person)) {
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField(PersonCsvParser.COLUMN_NAME, person.getName().fullName);
+                generator.writeStringField(PersonCsvParser.COLUMN_PHONE, person.getPhone().value);
+                generator.writeStringField(PersonCsvParser.COLUMN_EMAIL, person.getEmail().value);
+                generator.writeStringField(PersonCsvParser.COLUMN_ADDRESS, person.getAddress().value);
+                generator.writeStringField(PersonCsvParser.COLUMN_TEAM, person.getTeam().getName());
+                generator.writeStringField(PersonCsvParser.COLUMN_POSITION, person.getPosition().getName());
+                generator.writeArrayFieldStart(PersonCsvParser.COLUMN_INJURIES);
+                for (Injury injury : person.getInjuries()) {
+                    generator.writeString(injury.getInjuryName());
+                }
+                generator.writeEndArray();
+                generator.writeArrayFieldStart(PersonCsvParser.COLUMN_TAGS);
+                for (Tag tag : person.getTags()) {
+                    generator.writeString(tag.tagName);
+                }
+                generator.writeEndArray();
+                generator.writeBooleanField(COLUMN_CAPTAIN, person.isCaptain());
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return file.equals(otherExportCommand.file)
+                && format == otherExportCommand.format
+                && filter.equals(otherExportCommand.filter);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .add("format", format)
+                .add("filter", filter)
+                .toString();
+    }
+}
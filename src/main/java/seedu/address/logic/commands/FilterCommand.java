@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,9 +17,12 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
 import seedu.address.model.position.FilterByPositionPredicate;
 import seedu.address.model.position.Position;
 import seedu.address.model.team.FilterByTeamPredicate;
+import seedu.address.model.team.Team;
 
 /**
  * Filters and lists all persons in address book whose team, position or injury matches the argument.
@@ -73,11 +77,7 @@ public class FilterCommand extends Command {
         assert positionPredicate != null : "Position predicate should not be null";
         assert model.getAddressBook() != null : "Model should have address book";
 
-        validateTeamIfPresent(model);
-        validatePositionIfPresent(model);
-
-        model.updateFilteredPersonList(person ->
-            teamPredicate.test(person) && injuryPredicate.test(person) && positionPredicate.test(person));
+        model.updateFilteredPersonList(getPersonFilter(model));
 
         int filteredSize = model.getFilteredPersonList().size();
         logger.log(Level.INFO, "Filtered {0} players matching criteria", filteredSize);
@@ -92,6 +92,37 @@ public class FilterCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, filteredSize));
     }
 
+    /**
+     * Returns a predicate that accepts the persons in {@code model} matching every given criterion.
+     *
+     * @throws CommandException if the team or position to filter by does not exist in {@code model}.
+     */
+    public Predicate<Person> getPersonFilter(Model model) throws CommandException {
+        requireNonNull(model);
+        validateTeamIfPresent(model);
+        validatePositionIfPresent(model);
+        return createPersonFilter(model);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons matching every given criterion.
+     */
+    private Predicate<Person> createPersonFilter(Model model) {
+        String teamName = teamPredicate.getTeamName();
+        String injuryName = injuryPredicate.getInjuryName();
+        String positionName = positionPredicate.getPositionName();
+        if (!teamName.isEmpty() && !Team.isValidTeamName(teamName)
+                || !injuryName.isEmpty() && !Injury.isValidInjuryName(injuryName)
+                || !positionName.isEmpty() && !Position.isValidPositionName(positionName)) {
+            return person -> false;
+        }
+
+        return model.getPersonFilter(
+                Optional.of(teamName).filter(name -> !name.isEmpty()).map(Team::of),
+                Optional.of(injuryName).filter(name -> !name.isEmpty()).map(Injury::of),
+                Optional.of(positionName).filter(name -> !name.isEmpty()).map(Position::of));
+    }
+
     /**
      * Validates that the team exists in the model.
      */
@@ -109,7 +140,7 @@ public class FilterCommand extends Command {
      */
     private void validatePositionIfPresent(Model model) throws CommandException {
         if (positionArg.isPresent()) {
-            Position positionToCheck = new Position(positionArg.get());
+            Position positionToCheck = Position.of(positionArg.get());
             if (!model.hasPosition(positionToCheck)) {
                 throw new CommandException(String.format(Messages.MESSAGE_INVALID_POSITION, positionToCheck.getName()));
             }
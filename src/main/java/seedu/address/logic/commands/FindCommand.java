@@ -14,7 +14,8 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 
 /**
  * Finds and lists all persons in PlayBook whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Keyword matching is case insensitive. Keywords can also match the start of a name or tolerate typos, in which case
+ * the closest matches are listed first.
  */
 public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
@@ -22,8 +23,12 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all players whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Duplicate keywords are not allowed when using the command.\n"
+            + "End a keyword with " + NameContainsKeywordsPredicate.PREFIX_MARKER + " to match names starting with it, "
+            + "or with " + NameContainsKeywordsPredicate.FUZZY_MARKER + " to also match names with a typo or two.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " ali" + NameContainsKeywordsPredicate.PREFIX_MARKER
+            + " jonh" + NameContainsKeywordsPredicate.FUZZY_MARKER;
 
     private static final Logger logger = LogsCenter.getLogger(FindCommand.class);
 
@@ -42,7 +47,7 @@ public class FindCommand extends Command {
         // Assert model state
         assert model.getAddressBook() != null : "Model should have address book";
 
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByName(predicate);
 
         int foundCount = model.getFilteredPersonList().size();
         logger.info("Found " + foundCount + " players matching search criteria");
@@ -0,0 +1,217 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+
+/**
+ * Adds the players in a CSV file to the PlayBook.
+ * The file is read one row at a time and the valid players are added in batches, so the file is never held in
+ * memory as a whole. A row that is invalid, or whose player cannot be added, is skipped and reported without
+ * stopping the import.
+ */
+public class ImportCommand extends Command {
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the players in a CSV file to the PlayBook. "
+            + "The first row names the columns: name, phone, email, address and team are required, and position, "
+            + "injuries and tags are optional. Separate several injuries or tags with "
+            + PersonCsvParser.VALUE_SEPARATOR + ". Rows that cannot be imported are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " players.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d player(s) from %2$s";
+    public static final String MESSAGE_ROWS_SKIPPED = "Skipped %1$d row(s):";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read the file %1$s";
+    public static final String MESSAGE_STOPPED_AT_ROW = "Could not read the file %1$s past row %2$d, "
+            + "so the rest of it was not imported";
+    public static final String MESSAGE_EMPTY_FILE = "The file %1$s is empty";
+    public static final String MESSAGE_INVALID_HEADER = "The first row of %1$s is not a valid header: %2$s";
+    public static final String MESSAGE_POSITION_NOT_FOUND = "The position '%1$s' does not exist";
+
+    /** The number of players added to the model at a time. */
+    static final int BATCH_SIZE = 1000;
+    /** The number of skipped rows whose errors are listed in the result. */
+    static final int MAX_REPORTED_ERRORS = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to add the players in the CSV file at {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        List<Person> batch = new ArrayList<>(BATCH_SIZE);
+        Set<Name> batchNames = new HashSet<>();
+        List<String> reportedErrors = new ArrayList<>();
+        int importedCount = 0;
+        int skippedCount = 0;
+        int rowNumber = 1;
+        String readError = null;
+
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            PersonCsvParser parser = readHeader(reader);
+            while (true) {
+                List<String> row;
+                try {
+                    row = reader.readRecord();
+                } catch (IOException ioe) {
+                    logger.log(Level.WARNING, "Could not read " + file + " past row " + rowNumber, ioe);
+                    readError = String.format(MESSAGE_STOPPED_AT_ROW, file, rowNumber);
+                    break;
+                }
+                if (row == null) {
+                    break;
+                }
+                rowNumber++;
+                if (isBlank(row)) {
+                    continue;
+                }
+
+                try {
+                    Person person = parser.parse(row);
+                    checkCanAdd(model, person, batchNames);
+                    batch.add(person);
+                    batchNames.add(person.getName());
+                } catch (ParseException | CommandException e) {
+                    if (skippedCount < MAX_REPORTED_ERRORS) {
+                        reportedErrors.add(String.format(MESSAGE_ROW_ERROR, rowNumber,
+                                e.getMessage().replace('\n', ' ')));
+                    }
+                    skippedCount++;
+                    continue;
+                }
+
+                if (batch.size() == BATCH_SIZE) {
+                    importedCount += addBatch(model, batch, batchNames);
+                }
+            }
+            importedCount += addBatch(model, batch, batchNames);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, file), ioe);
+        }
+
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, importedCount, file));
+        if (readError != null) {
+            result.append('\n').append(readError);
+        }
+        if (skippedCount > 0) {
+            result.append('\n').append(String.format(MESSAGE_ROWS_SKIPPED, skippedCount));
+            for (String error : reportedErrors) {
+                result.append('\n').append(error);
+            }
+            if (skippedCount > reportedErrors.size()) {
+                result.append('\n').append(String.format(MESSAGE_MORE_ERRORS, skippedCount - reportedErrors.size()));
+            }
+        }
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return CommandResult.showPersonCommandResult(result.toString());
+    }
+
+    private PersonCsvParser readHeader(CsvReader reader) throws IOException, CommandException {
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            throw new CommandException(String.format(MESSAGE_EMPTY_FILE, file));
+        }
+        try {
+            return new PersonCsvParser(header);
+        } catch (ParseException pe) {
+            throw new CommandException(String.format(MESSAGE_INVALID_HEADER, file, pe.getMessage()), pe);
+        }
+    }
+
+    /**
+     * Checks that {@code person} can be added to {@code model} along with the players already in the batch, whose
+     * names are {@code batchNames}, under the same rules as the {@code add} command.
+     *
+     * @throws CommandException if the player already exists or their team or position does not.
+     */
+    private static void checkCanAdd(Model model, Person person, Set<Name> batchNames) throws CommandException {
+        if (batchNames.contains(person.getName()) || model.hasPerson(person)) {
+            throw new CommandException(Messages.MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!model.hasTeam(person.getTeam())) {
+            throw new CommandException(String.format(AddCommand.MESSAGE_TEAM_NOT_FOUND, person.getTeam().getName()));
+        }
+        Position position = person.getPosition();
+        if (!position.equals(Position.DEFAULT_POSITION) && !model.hasPosition(position)) {
+            throw new CommandException(String.format(MESSAGE_POSITION_NOT_FOUND, position.getName()));
+        }
+    }
+
+    /**
+     * Adds the players in {@code batch} to {@code model} in one step, then empties the batch.
+     *
+     * @return the number of players added.
+     */
+    private static int addBatch(Model model, List<Person> batch, Set<Name> batchNames) {
+        int size = batch.size();
+        if (size > 0) {
+            model.addPersons(batch);
+            batch.clear();
+            batchNames.clear();
+        }
+        return size;
+    }
+
+    private static boolean isBlank(List<String> row) {
+        return row.size() == 1 && row.get(0).isBlank();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
@@ -41,7 +41,7 @@ public class NewPositionCommand extends Command {
         final String normalized = rawPositionName.trim();
         final Position position;
         try {
-            position = new Position(normalized);
+            position = Position.of(normalized);
         } catch (IllegalArgumentException e) {
             throw new CommandException(Position.MESSAGE_CONSTRAINTS);
         }
@@ -0,0 +1,48 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_POSITIONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TEAMS;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the last change to the PlayBook that was undone.
+ */
+public class RedoCommand extends Command {
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last change that was undone.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more changes to redo!";
+
+    private static final Logger logger = LogsCenter.getLogger(RedoCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        if (!model.canRedoAddressBook()) {
+            logger.log(Level.WARNING, "Nothing to {0}", COMMAND_WORD);
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTeamList(PREDICATE_SHOW_ALL_TEAMS);
+        model.updateFilteredPositionList(PREDICATE_SHOW_ALL_POSITIONS);
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return CommandResult.showPersonCommandResult(MESSAGE_SUCCESS);
+    }
+}
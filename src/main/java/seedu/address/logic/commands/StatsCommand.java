@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.RosterStats;
+import seedu.address.model.RosterStats.TeamStats;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * Reports the number of players, injured players and captains in the PlayBook, overall and per team, and the number
+ * of players in each position.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of players, injured players and "
+            + "captains in each team, and the number of players in each position.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUMMARY = "Roster: %1$s, %2$d injured (%3$s), %4$d captain(s)";
+    public static final String MESSAGE_TEAM = "Team %1$s: %2$s, %3$d injured (%4$s), %5$d captain(s)";
+    public static final String MESSAGE_POSITION = "Position %1$s: %2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(StatsCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        RosterStats stats = model.getRosterStats();
+        StringBuilder report = new StringBuilder(String.format(MESSAGE_SUMMARY,
+                formatPlayerCount(stats.getPlayerCount()), stats.getInjuredCount(),
+                formatRate(stats.getInjuredCount(), stats.getPlayerCount()), stats.getCaptainCount()));
+        for (Map.Entry<Team, TeamStats> entry : stats.getTeamStats().entrySet()) {
+            TeamStats teamStats = entry.getValue();
+            report.append('\n').append(String.format(MESSAGE_TEAM, entry.getKey().getName(),
+                    formatPlayerCount(teamStats.getPlayerCount()), teamStats.getInjuredCount(),
+                    formatRate(teamStats.getInjuredCount(), teamStats.getPlayerCount()), teamStats.getCaptainCount()));
+        }
+        for (Map.Entry<Position, Integer> entry : stats.getPositionCounts().entrySet()) {
+            report.append('\n').append(String.format(MESSAGE_POSITION, entry.getKey().getName(),
+                    formatPlayerCount(entry.getValue())));
+        }
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return new CommandResult(report.toString());
+    }
+
+    private static String formatPlayerCount(int count) {
+        return count == 1 ? "1 player" : count + " players";
+    }
+
+    /**
+     * Returns {@code count} as a whole percentage of {@code total}, or 0% if {@code total} is zero.
+     */
+    private static String formatRate(int count, int total) {
+        return (total == 0 ? 0 : Math.round(100.0 * count / total)) + "%";
+    }
+}
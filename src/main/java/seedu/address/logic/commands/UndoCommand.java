@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_POSITIONS;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_TEAMS;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the last change to the PlayBook.
+ */
+public class UndoCommand extends Command {
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the last change to the players, teams and "
+            + "positions.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more changes to undo!";
+
+    private static final Logger logger = LogsCenter.getLogger(UndoCommand.class);
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing {0} command", COMMAND_WORD);
+
+        requireNonNull(model);
+
+        if (!model.canUndoAddressBook()) {
+            logger.log(Level.WARNING, "Nothing to {0}", COMMAND_WORD);
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.updateFilteredTeamList(PREDICATE_SHOW_ALL_TEAMS);
+        model.updateFilteredPositionList(PREDICATE_SHOW_ALL_POSITIONS);
+
+        logger.log(Level.INFO, "{0} command completed successfully", COMMAND_WORD);
+        return CommandResult.showPersonCommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -14,22 +14,28 @@ import seedu.address.logic.commands.AssignCaptainCommand;
 import seedu.address.logic.commands.AssignInjuryCommand;
 import seedu.address.logic.commands.AssignPositionCommand;
 import seedu.address.logic.commands.AssignTeamCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCaptainCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListInjuredCommand;
 import seedu.address.logic.commands.ListPositionCommand;
 import seedu.address.logic.commands.ListTeamCommand;
 import seedu.address.logic.commands.NewPositionCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UnassignCaptainCommand;
 import seedu.address.logic.commands.UnassignInjuryCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -129,6 +135,24 @@ public class AddressBookParser {
         case ListInjuredCommand.COMMAND_WORD:
             return new ListInjuredCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
+        case BatchCommand.COMMAND_WORD:
+            return new BatchCommandParser().parse(arguments);
+
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
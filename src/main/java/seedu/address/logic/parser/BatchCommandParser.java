@@ -0,0 +1,98 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BatchCommand object
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script file %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d of the script is invalid: %2$s";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "The %1$s command cannot be used in a script";
+
+    private static final String COMMENT_MARKER = "#";
+
+    /** Commands that act on the session rather than the data, and so have no meaning inside a single change. */
+    private static final Set<String> SESSION_COMMAND_WORDS = Set.of(BatchCommand.COMMAND_WORD,
+            UndoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD, ExitCommand.COMMAND_WORD, HelpCommand.COMMAND_WORD);
+    private static final Logger logger = LogsCenter.getLogger(BatchCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     *     or has an invalid line
+     */
+    public BatchCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        return parseScript(ParserUtil.parseFilePath(trimmedArgs));
+    }
+
+    /**
+     * Reads the script file at {@code scriptFile} and parses every command in it, so that no command runs unless
+     * the whole script is valid.
+     * @throws ParseException if the script cannot be read or has an invalid line
+     */
+    public BatchCommand parseScript(Path scriptFile) throws ParseException {
+        requireNonNull(scriptFile);
+        logger.info("Parsing script file: " + scriptFile);
+
+        AddressBookParser addressBookParser = new AddressBookParser();
+        List<Command> commands = new ArrayList<>();
+        List<Integer> lineNumbers = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(scriptFile, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                String trimmedLine = line.trim();
+                if (trimmedLine.isEmpty() || trimmedLine.startsWith(COMMENT_MARKER)) {
+                    continue;
+                }
+                commands.add(parseLine(addressBookParser, trimmedLine, lineNumber));
+                lineNumbers.add(lineNumber);
+            }
+        } catch (IOException ioe) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, scriptFile), ioe);
+        }
+        return new BatchCommand(scriptFile, commands, lineNumbers);
+    }
+
+    private static Command parseLine(AddressBookParser addressBookParser, String line, int lineNumber)
+            throws ParseException {
+        String commandWord = line.split("\\s+", 2)[0];
+        if (SESSION_COMMAND_WORDS.contains(commandWord)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber,
+                    String.format(MESSAGE_COMMAND_NOT_ALLOWED, commandWord)));
+        }
+
+        try {
+            return addressBookParser.parseCommand(line);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, pe.getMessage()), pe);
+        }
+    }
+}
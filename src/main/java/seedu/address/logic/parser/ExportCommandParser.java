@@ -0,0 +1,48 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_INJURY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_POSITION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TEAM;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+    public static final String MESSAGE_UNKNOWN_FORMAT = "The file name must end in "
+            + ExportCommand.Format.CSV.getExtension() + " or " + ExportCommand.Format.JSON_LINES.getExtension()
+            + " to choose the format of the export";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * The team, injury and position criteria are parsed as by the {@code filter} command.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION);
+        String filePath = argMultimap.getPreamble();
+        if (filePath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+
+        Path file = ParserUtil.parseFilePath(filePath);
+        ExportCommand.Format format = ExportCommand.Format.fromFileName(filePath)
+                .orElseThrow(() -> new ParseException(MESSAGE_UNKNOWN_FORMAT));
+
+        Optional<FilterCommand> filter = Optional.empty();
+        if (Stream.of(PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION).anyMatch(p -> argMultimap.getValue(p).isPresent())) {
+            filter = Optional.of(new FilterCommandParser().parseFilter(argMultimap, args));
+        }
+
+        return new ExportCommand(file, format, filter);
+    }
+}
@@ -35,19 +35,32 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         logger.log(Level.INFO, "Parsing filter command arguments: {0}", args);
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION);
 
         // Assert non-null argument multimap
         assert argMultimap != null : "ArgumentMultimap should not be null";
 
-        validatePresentPrefixes(argMultimap, args);
+        FilterCommand filterCommand = parseFilter(argMultimap, args);
         validateAtLeastOneFilterPresent(argMultimap, args);
 
+        logger.log(Level.INFO, "Successfully parsed filter command with criteria");
+        return filterCommand;
+    }
+
+    /**
+     * Creates a FilterCommand from the team, injury and position criteria in {@code argMultimap}, which was
+     * tokenized from {@code args}, ignoring its preamble. Commands that take the same criteria use this to filter
+     * players in the same way.
+     *
+     * @throws ParseException if a criterion is given more than once or has an invalid value
+     */
+    FilterCommand parseFilter(ArgumentMultimap argMultimap, String args) throws ParseException {
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TEAM, PREFIX_INJURY, PREFIX_POSITION);
+        validatePresentPrefixes(argMultimap, args);
+
         FilterByTeamPredicate teamPredicate = createTeamPredicate(argMultimap);
         FilterByInjuryPredicate injuryPredicate = createInjuryPredicate(argMultimap);
         FilterByPositionPredicate positionPredicate = createPositionPredicate(argMultimap);
 
-        logger.log(Level.INFO, "Successfully parsed filter command with criteria");
         return new FilterCommand(teamPredicate, injuryPredicate, positionPredicate,
                 argMultimap.getValue(PREFIX_TEAM),
                 argMultimap.getValue(PREFIX_INJURY),
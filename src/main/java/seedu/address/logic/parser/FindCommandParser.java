@@ -33,6 +33,7 @@ public class FindCommandParser implements Parser<FindCommand> {
         validateArgumentsNotEmpty(trimmedArgs);
 
         String[] nameKeywords = splitKeywords(trimmedArgs);
+        validateSearchTermsNotEmpty(nameKeywords);
         validateNoDuplicateKeywords(nameKeywords);
 
         logParsingSuccess(nameKeywords);
@@ -57,6 +58,19 @@ public class FindCommandParser implements Parser<FindCommand> {
         return trimmedArgs.split("\\s+");
     }
 
+    /**
+     * Validates that no keyword is a bare prefix or fuzzy search marker.
+     */
+    private void validateSearchTermsNotEmpty(String[] keywords) throws ParseException {
+        for (String keyword : keywords) {
+            if (NameContainsKeywordsPredicate.getSearchTerm(keyword).isEmpty()) {
+                logger.warning("Search marker without a search term provided to find command");
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+        }
+    }
+
     /**
      * Validates that there are no duplicate keywords in the input array.
      */
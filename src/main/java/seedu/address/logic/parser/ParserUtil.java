@@ -2,11 +2,14 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Email;
@@ -22,6 +25,8 @@ import seedu.address.model.team.Team;
  */
 public class ParserUtil {
 
+    public static final String MESSAGE_INVALID_FILE_PATH = "Invalid file path: %s";
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -99,7 +104,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid injury: %s\n%s",
                     trimmedInjuryName, Injury.MESSAGE_CONSTRAINTS));
         }
-        return new Injury(trimmedInjuryName);
+        return Injury.of(trimmedInjuryName);
     }
 
     /**
@@ -115,7 +120,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid team name: %s\n%s",
                     trimmedTeam, Team.MESSAGE_CONSTRAINTS));
         }
-        return new Team(trimmedTeam);
+        return Team.of(trimmedTeam);
     }
 
     /**
@@ -131,7 +136,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid position name: %s\n%s",
                     trimmedPosition, Position.MESSAGE_CONSTRAINTS));
         }
-        return new Position(trimmedPosition);
+        return Position.of(trimmedPosition);
     }
 
     /**
@@ -147,7 +152,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid tag name: %s\n%s",
                     trimmedTag, Tag.MESSAGE_CONSTRAINTS));
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -162,6 +167,21 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmedFilePath = filePath.trim();
+        if (!FileUtil.isValidPath(trimmedFilePath)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmedFilePath));
+        }
+        return Paths.get(trimmedFilePath);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
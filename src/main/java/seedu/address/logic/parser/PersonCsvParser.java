@@ -0,0 +1,155 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.position.Position;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+
+/**
+ * Parses the rows of a CSV file of players into {@code Person} objects, using the same validation as the
+ * {@code add} command.
+ * The header row names the column of each field, in any order and case. The name, phone, email, address and team
+ * columns are required; the position, injuries and tags columns are optional, and a row may leave them empty.
+ * Several injuries or tags in one cell are separated by {@value #VALUE_SEPARATOR}. Other columns are ignored.
+ */
+public class PersonCsvParser {
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_TEAM = "team";
+    public static final String COLUMN_POSITION = "position";
+    public static final String COLUMN_INJURIES = "injuries";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String VALUE_SEPARATOR = ";";
+
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row is missing the column(s): %1$s";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The header row has the column '%1$s' more than once";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d values but found %2$d";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL,
+            COLUMN_ADDRESS, COLUMN_TEAM);
+    private static final List<String> OPTIONAL_COLUMNS = List.of(COLUMN_POSITION, COLUMN_INJURIES, COLUMN_TAGS);
+    private static final int ABSENT = -1;
+
+    private final int columnCount;
+    private final int nameColumn;
+    private final int phoneColumn;
+    private final int emailColumn;
+    private final int addressColumn;
+    private final int teamColumn;
+    private final int positionColumn;
+    private final int injuriesColumn;
+    private final int tagsColumn;
+
+    /**
+     * Creates a parser for the rows that follow the given {@code header} row.
+     *
+     * @throws ParseException if {@code header} is missing a required column or has a column twice.
+     */
+    public PersonCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        Map<String, Integer> columns = new LinkedHashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!REQUIRED_COLUMNS.contains(column) && !OPTIONAL_COLUMNS.contains(column)) {
+                continue;
+            }
+            if (columns.putIfAbsent(column, i) != null) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, column));
+            }
+        }
+
+        List<String> missingColumns = new ArrayList<>();
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                missingColumns.add(column);
+            }
+        }
+        if (!missingColumns.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingColumns)));
+        }
+
+        columnCount = header.size();
+        nameColumn = columns.get(COLUMN_NAME);
+        phoneColumn = columns.get(COLUMN_PHONE);
+        emailColumn = columns.get(COLUMN_EMAIL);
+        addressColumn = columns.get(COLUMN_ADDRESS);
+        teamColumn = columns.get(COLUMN_TEAM);
+        positionColumn = columns.getOrDefault(COLUMN_POSITION, ABSENT);
+        injuriesColumn = columns.getOrDefault(COLUMN_INJURIES, ABSENT);
+        tagsColumn = columns.getOrDefault(COLUMN_TAGS, ABSENT);
+    }
+
+    /**
+     * Parses the fields of a row into a {@code Person}, who is not a captain.
+     * A player without injuries is fit, and a player without a position has the default position.
+     *
+     * @throws ParseException if the row does not have one field per column or has an invalid field.
+     */
+    public Person parse(List<String> row) throws ParseException {
+        requireNonNull(row);
+        if (row.size() != columnCount) {
+            throw new ParseException(String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, row.size()));
+        }
+
+        Name name = ParserUtil.parseName(row.get(nameColumn));
+        Phone phone = ParserUtil.parsePhone(row.get(phoneColumn));
+        Email email = ParserUtil.parseEmail(row.get(emailColumn));
+        Address address = ParserUtil.parseAddress(row.get(addressColumn));
+        Team team = ParserUtil.parseTeam(row.get(teamColumn));
+
+        String positionField = getOptionalField(row, positionColumn);
+        Position position = positionField.isBlank()
+                ? Position.DEFAULT_POSITION
+                : ParserUtil.parsePosition(positionField);
+
+        Set<Injury> injuries = new HashSet<>();
+        for (String injuryName : splitValues(getOptionalField(row, injuriesColumn))) {
+            injuries.add(ParserUtil.parseInjury(injuryName));
+        }
+        if (injuries.size() > 1) {
+            injuries.remove(Injury.DEFAULT_INJURY_STATUS);
+        } else if (injuries.isEmpty()) {
+            injuries.add(Injury.DEFAULT_INJURY_STATUS);
+        }
+
+        Set<Tag> tags = ParserUtil.parseTags(splitValues(getOptionalField(row, tagsColumn)));
+
+        return new Person(name, phone, email, address, team, tags, position, injuries,
+                Person.DEFAULT_CAPTAIN_STATUS);
+    }
+
+    private static String getOptionalField(List<String> row, int column) {
+        return column == ABSENT ? "" : row.get(column);
+    }
+
+    /**
+     * Returns the non-blank values in {@code field}, which are separated by {@link #VALUE_SEPARATOR}.
+     */
+    private static List<String> splitValues(String field) {
+        List<String> values = new ArrayList<>();
+        for (String value : field.split(VALUE_SEPARATOR)) {
+            if (!value.isBlank()) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+}
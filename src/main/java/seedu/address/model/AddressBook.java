@@ -1,17 +1,34 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
-
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentIntMap;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.position.Position;
 import seedu.address.model.position.UniquePositionList;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.UniqueTeamList;
 import seedu.address.model.team.exceptions.TeamNotEmptyException;
@@ -19,12 +36,42 @@ import seedu.address.model.team.exceptions.TeamNotEmptyException;
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Persons are also indexed by team, position, injury, captaincy and name token. The indexes are updated by every
+ * method that changes the person list, so that lookups by these attributes do not need to scan the whole list. Each
+ * index keeps sets of dense person ordinals.
+ *
+ * Persons are stored with the canonical {@code Team} and {@code Position} instances held in the team and position
+ * lists, and with the shared {@code Injury} and {@code Tag} instances, so that persons with the same team, position,
+ * injury or tag do not each carry a copy of it.
+ *
+ * Every person is also numbered in the order it was added, and kept in a persistent map under that number, so that
+ * {@link #takeSnapshot()} can capture the whole address book without copying it.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTeamList teams;
     private final UniquePositionList positions;
+    private long version;
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+    private final PersonMultiIndex<Team> personsByTeam = new PersonMultiIndex<>(ordinals, person ->
+            Collections.singletonList(person.getTeam()));
+    private final PersonMultiIndex<Position> personsByPosition = new PersonMultiIndex<>(ordinals, person ->
+            Collections.singletonList(person.getPosition()));
+    private final PersonMultiIndex<Injury> personsByInjury = new PersonMultiIndex<>(ordinals, Person::getInjuries);
+    private final PersonMultiIndex<Team> captainsByTeam = new PersonMultiIndex<>(ordinals, person -> person.isCaptain()
+            ? Collections.singletonList(person.getTeam())
+            : Collections.emptyList());
+    private final NameTokenIndex personsByNameToken = new NameTokenIndex();
+    private final RosterColumns rosterColumns = new RosterColumns();
+
+    private final Map<Name, Integer> sequencesByName = new HashMap<>();
+    private PersistentIntMap<Person> personsBySequence = PersistentIntMap.empty();
+    private int nextSequence;
+    private List<Team> teamsSnapshot;
+    private List<Position> positionsSnapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +84,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         teams = new UniqueTeamList();
         positions = new UniquePositionList();
+
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        teams.asUnmodifiableObservableList().addListener((ListChangeListener<Team>) change -> {
+            version++;
+            teamsSnapshot = null;
+        });
+        positions.asUnmodifiableObservableList().addListener((ListChangeListener<Position>) change -> {
+            version++;
+            positionsSnapshot = null;
+        });
     }
 
     public AddressBook() {
@@ -50,6 +107,24 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Creates an AddressBook holding the given {@code persons}, {@code teams} and {@code positions} in one step.
+     * Each list is checked for duplicates in a single hashed pass and installed with a single list-change event,
+     * which makes this the preferred way to build a large address book.
+     *
+     * @throws seedu.address.model.person.exceptions.DuplicatePersonException if {@code persons} has duplicates.
+     * @throws seedu.address.model.team.exceptions.DuplicateTeamException if {@code teams} has duplicates.
+     * @throws seedu.address.model.position.exceptions.DuplicatePositionException if {@code positions} has
+     *     duplicates.
+     */
+    public AddressBook(List<Person> persons, List<Team> teams, List<Position> positions) {
+        this();
+        // Teams and positions first, so that the persons can share their instances
+        setTeams(teams);
+        setPositions(positions);
+        setPersons(persons);
+    }
+
     //// list overwrite operations
 
     /**
@@ -57,18 +132,91 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireNonNull(persons);
+        List<Person> internedPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            internedPersons.add(intern(person));
+        }
+        this.persons.setPersons(internedPersons);
+        reindexPersons();
+        renumberPersons(PersistentIntMap.of(internedPersons), internedPersons.size());
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * A list that holds the very same elements as {@code newData} is left untouched, and each other list is
+     * replaced with a single change. Persons already in this address book keep their place in the indexes, so that
+     * only the persons that differ are indexed again.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setTeams(newData.getTeamList());
-        setPositions(newData.getPositionList());
+        if (!hasSameElements(teams.asUnmodifiableObservableList(), newData.getTeamList())) {
+            setTeams(newData.getTeamList());
+        }
+        if (!hasSameElements(positions.asUnmodifiableObservableList(), newData.getPositionList())) {
+            setPositions(newData.getPositionList());
+        }
+        updatePersons(newData.getPersonList());
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code newPersons}, updating the indexes and the persistent map
+     * only for the persons that were added or removed. Falls back to {@link #setPersons(List)} if most persons
+     * differ.
+     */
+    private void updatePersons(List<Person> newPersons) {
+        List<Person> internedPersons = new ArrayList<>(newPersons.size());
+        for (Person person : newPersons) {
+            internedPersons.add(intern(person));
+        }
+        List<Person> oldPersons = persons.asUnmodifiableObservableList();
+        if (hasSameElements(oldPersons, internedPersons)) {
+            return;
+        }
+
+        Set<Person> oldPersonSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        oldPersonSet.addAll(oldPersons);
+        Set<Person> newPersonSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        newPersonSet.addAll(internedPersons);
+        List<Person> removedPersons = new ArrayList<>();
+        oldPersons.stream().filter(person -> !newPersonSet.contains(person)).forEach(removedPersons::add);
+        List<Person> addedPersons = new ArrayList<>();
+        internedPersons.stream().filter(person -> !oldPersonSet.contains(person)).forEach(addedPersons::add);
+        if (removedPersons.size() + addedPersons.size() > internedPersons.size() / 2) {
+            setPersons(internedPersons);
+            return;
+        }
+
+        persons.setPersons(internedPersons);
+        // An edited person keeps its sequence number, as it does when edited through setPerson
+        Map<Name, Integer> freedSequences = new HashMap<>();
+        for (Person person : removedPersons) {
+            unindexPerson(person);
+            freedSequences.put(person.getName(), sequencesByName.remove(person.getName()));
+        }
+        for (Person person : addedPersons) {
+            indexPerson(person);
+            Integer freedSequence = freedSequences.remove(person.getName());
+            int sequence = freedSequence != null ? freedSequence : nextSequence++;
+            sequencesByName.put(person.getName(), sequence);
+            personsBySequence = personsBySequence.with(sequence, person);
+        }
+        for (int sequence : freedSequences.values()) {
+            personsBySequence = personsBySequence.without(sequence);
+        }
+    }
+
+    private static boolean hasSameElements(List<?> list, List<?> otherList) {
+        if (list.size() != otherList.size()) {
+            return false;
+        }
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) != otherList.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     //// person-level operations
@@ -91,7 +239,30 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+        Person internedPerson = intern(p);
+        persons.add(internedPerson);
+        indexPerson(internedPerson);
+        sequencesByName.put(internedPerson.getName(), nextSequence);
+        personsBySequence = personsBySequence.with(nextSequence++, internedPerson);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book, as a single change to the person list.
+     * None of the persons may already exist in the address book or appear twice in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        List<Person> internedPersons = new ArrayList<>(toAdd.size());
+        for (Person person : toAdd) {
+            internedPersons.add(intern(person));
+        }
+        persons.addAll(internedPersons);
+        for (Person person : internedPersons) {
+            indexPerson(person);
+            sequencesByName.put(person.getName(), nextSequence);
+            personsBySequence = personsBySequence.with(nextSequence++, person);
+        }
     }
 
     /**
@@ -102,7 +273,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        Person internedPerson = intern(editedPerson);
+        persons.setPerson(target, internedPerson);
+        unindexPerson(target);
+        indexPerson(internedPerson);
+        int sequence = sequencesByName.remove(target.getName());
+        sequencesByName.put(internedPerson.getName(), sequence);
+        personsBySequence = personsBySequence.with(sequence, internedPerson);
     }
 
     /**
@@ -111,6 +288,81 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        unindexPerson(key);
+        personsBySequence = personsBySequence.without(sequencesByName.remove(key.getName()));
+    }
+
+    /**
+     * Returns the persons in {@code team}, as an unmodifiable view that reflects later changes.
+     */
+    public Set<Person> getPersonsInTeam(Team team) {
+        requireNonNull(team);
+        return personsByTeam.get(team);
+    }
+
+    /**
+     * Returns the persons playing {@code position}, as an unmodifiable view that reflects later changes.
+     */
+    public Set<Person> getPersonsInPosition(Position position) {
+        requireNonNull(position);
+        return personsByPosition.get(position);
+    }
+
+    /**
+     * Returns the persons with {@code injury}, as an unmodifiable view that reflects later changes.
+     */
+    public Set<Person> getPersonsWithInjury(Injury injury) {
+        requireNonNull(injury);
+        return personsByInjury.get(injury);
+    }
+
+    /**
+     * Returns a predicate that accepts the persons in {@code team}, with {@code injury} and playing
+     * {@code position}, where an empty criterion accepts every person.
+     * The predicate tests the fields of each person directly rather than looking the person up in the indexes, as
+     * the filtered list tests every person anyway and a field comparison is cheaper than finding its ordinal.
+     */
+    public Predicate<Person> getPersonFilter(Optional<Team> team, Optional<Injury> injury,
+            Optional<Position> position) {
+        requireAllNonNull(team, injury, position);
+        if (team.isEmpty() && injury.isEmpty() && position.isEmpty()) {
+            return person -> true;
+        }
+        return person -> team.map(person.getTeam()::equals).orElse(true)
+                && injury.map(person.getInjuries()::contains).orElse(true)
+                && position.map(person.getPosition()::equals).orElse(true);
+    }
+
+    /**
+     * Returns a search that accepts the persons whose name matches {@code predicate} and ranks them by how closely
+     * they match.
+     * The persons matching now are found by looking up each keyword in the name token index, so that the work done
+     * depends on the number of matching words rather than on the size of the roster.
+     */
+    PersonNameSearch searchNames(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Map<Integer, Integer> scoresByOrdinal = new HashMap<>();
+        for (String keyword : predicate.getKeywords()) {
+            personsByNameToken.addMatches(keyword, scoresByOrdinal);
+        }
+        return new PersonNameSearch(ordinals, scoresByOrdinal, predicate);
+    }
+
+    /**
+     * Returns the captain of {@code team}, or null if it has none.
+     */
+    public Person getTeamCaptain(Team team) {
+        requireNonNull(team);
+        Iterator<Person> captains = captainsByTeam.get(team).iterator();
+        return captains.hasNext() ? captains.next() : null;
+    }
+
+    /**
+     * Returns true if {@code position} is played by at least one person.
+     */
+    public boolean isPositionAssigned(Position position) {
+        requireNonNull(position);
+        return personsByPosition.containsKey(position);
     }
 
     //// team level operations
@@ -153,7 +405,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The team must exist in the address book.
      */
     public void assignTeam(Person person, Team team) {
-        this.persons.assignTeam(person, team);
+        this.persons.assignTeam(person, teams.intern(team));
+        Person assignedPerson = persons.getPersonByName(person.getName());
+        unindexPerson(person);
+        indexPerson(assignedPerson);
+        personsBySequence = personsBySequence.with(sequencesByName.get(person.getName()), assignedPerson);
     }
 
     /**
@@ -161,12 +417,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean isTeamEmpty(Team team) {
         requireNonNull(team);
-        for (Person person : persons) {
-            if (team.equals(person.getTeam())) {
-                return false;
-            }
-        }
-        return true;
+        return !personsByTeam.containsKey(team);
     }
 
     /**
@@ -215,6 +466,134 @@ public class AddressBook implements ReadOnlyAddressBook {
         return positions.getByName(name);
     }
 
+    //// snapshots
+
+    /**
+     * Returns the current state of this address book.
+     * This takes constant time and memory: the snapshot shares the persistent map of the persons, and the team and
+     * position lists are copied only if they changed since the last snapshot.
+     */
+    AddressBookSnapshot takeSnapshot() {
+        if (teamsSnapshot == null) {
+            teamsSnapshot = List.copyOf(teams.asUnmodifiableObservableList());
+        }
+        if (positionsSnapshot == null) {
+            positionsSnapshot = List.copyOf(positions.asUnmodifiableObservableList());
+        }
+        return new AddressBookSnapshot(personsBySequence, nextSequence, teamsSnapshot, positionsSnapshot);
+    }
+
+    /**
+     * Restores this address book to the state captured by {@code snapshot}, with the persons in the order they
+     * were added.
+     */
+    void restoreSnapshot(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        setTeams(snapshot.getTeams());
+        setPositions(snapshot.getPositions());
+        teamsSnapshot = snapshot.getTeams();
+        positionsSnapshot = snapshot.getPositions();
+
+        // The persons of a snapshot already share the instances of its teams and positions
+        List<Person> restoredPersons = new ArrayList<>(snapshot.getPersonsBySequence().size());
+        snapshot.getPersonsBySequence().forEach((sequence, person) -> restoredPersons.add(person));
+        persons.setPersons(restoredPersons);
+        reindexPersons();
+        renumberPersons(snapshot.getPersonsBySequence(), snapshot.getNextSequence());
+    }
+
+    private void renumberPersons(PersistentIntMap<Person> newPersonsBySequence, int newNextSequence) {
+        personsBySequence = newPersonsBySequence;
+        nextSequence = newNextSequence;
+        sequencesByName.clear();
+        personsBySequence.forEach((sequence, person) -> sequencesByName.put(person.getName(), sequence));
+    }
+
+    /**
+     * Returns the player, injury and captain counts of the whole roster, of each team and of each position.
+     * The counts are aggregated from a columnar copy of the persons kept next to the indexes.
+     */
+    public RosterStats getRosterStats() {
+        return rosterColumns.computeStats(teams.asUnmodifiableObservableList(),
+                positions.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Returns a counter that increases every time a person, team or position in this address book changes.
+     * Two equal readings mean that no modification happened in between.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns {@code person}, or a copy of it if any of its team, position, injuries or tags is not the canonical
+     * instance. The team and position are looked up in the team and position lists, and left as they are if the
+     * lists do not have them.
+     */
+    private Person intern(Person person) {
+        Team team = teams.intern(person.getTeam());
+        Position position = positions.intern(person.getPosition());
+        Set<Injury> injuries = person.getInjuries();
+        Set<Tag> tags = person.getTags();
+        Set<Injury> internedInjuries = internAll(injuries, injury -> Injury.of(injury.getInjuryName()));
+        Set<Tag> internedTags = internAll(tags, tag -> Tag.of(tag.tagName));
+        if (team == person.getTeam() && position == person.getPosition()
+                && internedInjuries == injuries && internedTags == tags) {
+            return person;
+        }
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(), team,
+                internedTags, position, internedInjuries, person.isCaptain());
+    }
+
+    /**
+     * Returns {@code values} if {@code interner} maps every value to itself, or else a new set of the interned values.
+     */
+    private static <T> Set<T> internAll(Set<T> values, UnaryOperator<T> interner) {
+        for (T value : values) {
+            if (interner.apply(value) != value) {
+                Set<T> internedValues = new HashSet<>();
+                values.forEach(v -> internedValues.add(interner.apply(v)));
+                return internedValues;
+            }
+        }
+        return values;
+    }
+
+    private void indexPerson(Person person) {
+        int ordinal = ordinals.add(person);
+        personsByTeam.add(person, ordinal);
+        personsByPosition.add(person, ordinal);
+        personsByInjury.add(person, ordinal);
+        captainsByTeam.add(person, ordinal);
+        personsByNameToken.add(person, ordinal);
+        rosterColumns.add(person, ordinal);
+    }
+
+    private void unindexPerson(Person person) {
+        int ordinal = ordinals.remove(person);
+        if (ordinal < 0) {
+            return;
+        }
+        personsByTeam.remove(person, ordinal);
+        personsByPosition.remove(person, ordinal);
+        personsByInjury.remove(person, ordinal);
+        captainsByTeam.remove(person, ordinal);
+        personsByNameToken.remove(person, ordinal);
+        rosterColumns.remove(ordinal);
+    }
+
+    private void reindexPersons() {
+        ordinals.clear();
+        personsByTeam.clear();
+        personsByPosition.clear();
+        personsByInjury.clear();
+        captainsByTeam.clear();
+        personsByNameToken.clear();
+        rosterColumns.clear();
+        persons.forEach(this::indexPerson);
+    }
+
     /// / util methods
 
     @Override
@@ -0,0 +1,82 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The committed states of an address book, which can be undone and redone.
+ * At most {@code maxDepth} states before the current one are kept; committing beyond that forgets the oldest.
+ * Since successive {@link AddressBookSnapshot snapshots} share everything but what changed between them, the
+ * history costs memory in proportion to the number of changes it holds.
+ */
+class AddressBookHistory {
+
+    private final Deque<AddressBookSnapshot> undoStates = new ArrayDeque<>();
+    private final Deque<AddressBookSnapshot> redoStates = new ArrayDeque<>();
+    private final int maxDepth;
+    private AddressBookSnapshot currentState;
+
+    /**
+     * Creates a history whose current state is {@code initialState} and which keeps at most {@code maxDepth}
+     * states to undo.
+     */
+    AddressBookHistory(AddressBookSnapshot initialState, int maxDepth) {
+        requireNonNull(initialState);
+        checkArgument(maxDepth >= 0, "Undo history depth cannot be negative");
+        this.currentState = initialState;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Makes {@code state} the current state, and discards the states that could be redone.
+     */
+    void commit(AddressBookSnapshot state) {
+        requireNonNull(state);
+        undoStates.push(currentState);
+        if (undoStates.size() > maxDepth) {
+            undoStates.removeLast();
+        }
+        redoStates.clear();
+        currentState = state;
+    }
+
+    boolean canUndo() {
+        return !undoStates.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStates.isEmpty();
+    }
+
+    /**
+     * Steps back to the previous state and returns it.
+     *
+     * @throws IllegalStateException if there is no state to undo.
+     */
+    AddressBookSnapshot undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("No state to undo");
+        }
+        redoStates.push(currentState);
+        currentState = undoStates.pop();
+        return currentState;
+    }
+
+    /**
+     * Steps forward to the most recently undone state and returns it.
+     *
+     * @throws IllegalStateException if there is no state to redo.
+     */
+    AddressBookSnapshot redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("No state to redo");
+        }
+        undoStates.push(currentState);
+        currentState = redoStates.pop();
+        return currentState;
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.commons.util.PersistentIntMap;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * An immutable state of an {@link AddressBook}, which the address book can be restored to.
+ * The persons are held in a {@link PersistentIntMap} keyed by the order in which they were added, which the
+ * snapshots of successive states share all but the changed parts of.
+ */
+class AddressBookSnapshot {
+
+    private final PersistentIntMap<Person> personsBySequence;
+    private final int nextSequence;
+    private final List<Team> teams;
+    private final List<Position> positions;
+
+    /**
+     * Creates a snapshot of the given persons, keyed by sequence numbers below {@code nextSequence}, and of the given
+     * unmodifiable team and position lists.
+     */
+    AddressBookSnapshot(PersistentIntMap<Person> personsBySequence, int nextSequence, List<Team> teams,
+            List<Position> positions) {
+        this.personsBySequence = personsBySequence;
+        this.nextSequence = nextSequence;
+        this.teams = teams;
+        this.positions = positions;
+    }
+
+    PersistentIntMap<Person> getPersonsBySequence() {
+        return personsBySequence;
+    }
+
+    int getNextSequence() {
+        return nextSequence;
+    }
+
+    List<Team> getTeams() {
+        return teams;
+    }
+
+    List<Position> getPositions() {
+        return positions;
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,6 +10,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.FilterInjuredPredicate;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 import seedu.address.model.team.Team;
@@ -68,6 +71,39 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns a counter that increases every time the address book data is modified.
+     * Callers can compare two readings to tell whether anything changed in between.
+     */
+    long getAddressBookVersion();
+
+    /**
+     * Records the current state of the address book in the undo history, if it changed since the last commit.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed or uncommitted change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone state of the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last change, committing any uncommitted change first.
+     * There must be a change to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to the state that was last undone.
+     * There must be a state to redo.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -90,6 +126,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all the given persons, as a single change to the person list.
+     * None of {@code persons} may already exist in the address book or appear twice in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Adds the specified {@code injury} to the given person {@code target}'s injury list.
      * Returns a new {@code Person} instance with the updated injuries.
@@ -132,6 +174,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to the persons whose name matches {@code predicate}, and orders
+     * them by how closely they match, best match first. Persons that match equally well keep their order.
+     * The matches are found from the name index of the address book rather than by testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
     /**
      * Returns true if a team with the same identity as {@code team} exists in the address book.
      */
@@ -201,6 +251,18 @@ public interface Model {
 
     void unassignCaptain(Person person);
 
+    /**
+     * Returns a predicate that accepts the persons in {@code team}, with {@code injury} and playing
+     * {@code position}, where an empty criterion accepts every person.
+     * The predicate is meant to be passed to {@link #updateFilteredPersonList(Predicate)}.
+     */
+    Predicate<Person> getPersonFilter(Optional<Team> team, Optional<Injury> injury, Optional<Position> position);
+
+    /**
+     * Returns the player, injury and captain counts of the whole roster, of each team and of each position.
+     */
+    RosterStats getRosterStats();
+
     /**
      * Returns the current captain of the given team, if one exists.
      * @param team the team to check for a captain
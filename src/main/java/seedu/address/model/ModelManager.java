@@ -5,16 +5,21 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 import seedu.address.model.team.Team;
@@ -28,20 +33,35 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Team> filteredTeams;
     private final FilteredList<Position> filteredPositions;
+    private final AddressBookHistory history;
+    private long committedVersion;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, keeping the default number of states
+     * to undo.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, Config.DEFAULT_UNDO_HISTORY_DEPTH);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, keeping at most
+     * {@code undoHistoryDepth} states to undo.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs, int undoHistoryDepth) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
+        history = new AddressBookHistory(this.addressBook.takeSnapshot(), undoHistoryDepth);
+        committedVersion = this.addressBook.getVersion();
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredTeams = new FilteredList<>(this.addressBook.getTeamList());
         filteredPositions = new FilteredList<>(this.addressBook.getPositionList());
     }
@@ -97,6 +117,43 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        if (addressBook.getVersion() == committedVersion) {
+            return;
+        }
+        history.commit(addressBook.takeSnapshot());
+        committedVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.getVersion() != committedVersion || history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.getVersion() == committedVersion && history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        commitAddressBook();
+        addressBook.restoreSnapshot(history.undo());
+        committedVersion = addressBook.getVersion();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.restoreSnapshot(history.redo());
+        committedVersion = addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -120,6 +177,13 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -184,13 +248,22 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        sortedPersons.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        PersonNameSearch search = addressBook.searchNames(predicate);
+        filteredPersons.setPredicate(search);
+        sortedPersons.setComparator(search);
     }
 
     //=========== Filtered Team List Accessors =============================================================
@@ -227,10 +300,18 @@ public class ModelManager implements Model {
     @Override
     public Person getTeamCaptain(Team team) {
         requireNonNull(team);
-        return addressBook.getPersonList().stream()
-                .filter(person -> person.getTeam().equals(team) && person.isCaptain())
-                .findFirst()
-                .orElse(null);
+        return addressBook.getTeamCaptain(team);
+    }
+
+    @Override
+    public Predicate<Person> getPersonFilter(Optional<Team> team, Optional<Injury> injury,
+            Optional<Position> position) {
+        return addressBook.getPersonFilter(team, injury, position);
+    }
+
+    @Override
+    public RosterStats getRosterStats() {
+        return addressBook.getRosterStats();
     }
 
     //=========== Team Commands =============================================================
@@ -313,8 +394,7 @@ public class ModelManager implements Model {
     @Override
     public boolean isPositionAssigned(Position position) {
         requireNonNull(position);
-        return addressBook.getPersonList().stream()
-                .anyMatch(person -> person.getPosition().getName().equalsIgnoreCase(position.getName()));
+        return addressBook.isPositionAssigned(position);
     }
 
     @Override
@@ -331,7 +411,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons)
+                && sortedPersons.equals(otherModelManager.sortedPersons)
                 && filteredTeams.equals(otherModelManager.filteredTeams)
                 && filteredPositions.equals(otherModelManager.filteredPositions);
     }
@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static seedu.address.model.person.NameContainsKeywordsPredicate.NO_MATCH;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps the lower case words of person names to the {@link PersonOrdinals ordinals} of the persons with that word,
+ * and finds the words matching a {@link NameContainsKeywordsPredicate keyword} without scanning every word.
+ * <ul>
+ *     <li>Exact keywords are looked up directly.</li>
+ *     <li>Prefix keywords are answered from the range of the sorted words that start with the prefix.</li>
+ *     <li>Fuzzy keywords are answered from an index of the trigrams of every word. A word within {@code k} edits of
+ *     the keyword shares all but at most {@code 3k} of the keyword's trigrams, so only the words under the rarest
+ *     of the keyword's trigrams are compared with the keyword.</li>
+ * </ul>
+ */
+class NameTokenIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final char PADDING = '\0';
+
+    private final NavigableMap<String, OrdinalSet> ordinalsByToken = new TreeMap<>();
+    private final Map<String, Set<String>> tokensByGram = new HashMap<>();
+
+    /**
+     * Files {@code person}, numbered {@code ordinal}, under each word of its name.
+     */
+    void add(Person person, int ordinal) {
+        for (String token : getTokens(person)) {
+            OrdinalSet tokenOrdinals = ordinalsByToken.get(token);
+            if (tokenOrdinals == null) {
+                tokenOrdinals = new OrdinalSet();
+                ordinalsByToken.put(token, tokenOrdinals);
+                for (String gram : getGrams(token)) {
+                    tokensByGram.computeIfAbsent(gram, unused -> new HashSet<>()).add(token);
+                }
+            }
+            tokenOrdinals.add(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person}, numbered {@code ordinal}, from under each word of its name.
+     * Words no longer used by any person are forgotten.
+     */
+    void remove(Person person, int ordinal) {
+        for (String token : getTokens(person)) {
+            OrdinalSet tokenOrdinals = ordinalsByToken.get(token);
+            if (tokenOrdinals == null) {
+                continue;
+            }
+            tokenOrdinals.remove(ordinal);
+            if (tokenOrdinals.isEmpty()) {
+                ordinalsByToken.remove(token);
+                for (String gram : getGrams(token)) {
+                    Set<String> gramTokens = tokensByGram.get(gram);
+                    gramTokens.remove(token);
+                    if (gramTokens.isEmpty()) {
+                        tokensByGram.remove(gram);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    void clear() {
+        ordinalsByToken.clear();
+        tokensByGram.clear();
+    }
+
+    /**
+     * Records in {@code scoresByOrdinal} the score of every person whose name matches {@code keyword}, keeping the
+     * better score of persons already recorded.
+     *
+     * @see NameContainsKeywordsPredicate#getMatchScore(String, String)
+     */
+    void addMatches(String keyword, Map<Integer, Integer> scoresByOrdinal) {
+        String term = NameContainsKeywordsPredicate.getSearchTerm(keyword);
+        if (term.isEmpty()) {
+            return;
+        }
+        Iterable<String> candidates;
+        if (NameContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+            candidates = ordinalsByToken.subMap(term, true, term + Character.MAX_VALUE, false).keySet();
+        } else if (NameContainsKeywordsPredicate.isFuzzyKeyword(keyword)) {
+            candidates = getFuzzyCandidates(term);
+        } else {
+            candidates = Set.of(term);
+        }
+
+        for (String token : candidates) {
+            OrdinalSet tokenOrdinals = ordinalsByToken.get(token);
+            int score = NameContainsKeywordsPredicate.getMatchScore(keyword, token);
+            if (tokenOrdinals == null || score == NO_MATCH) {
+                continue;
+            }
+            for (int ordinal = tokenOrdinals.nextOrdinal(0); ordinal >= 0;
+                    ordinal = tokenOrdinals.nextOrdinal(ordinal + 1)) {
+                scoresByOrdinal.merge(ordinal, score, Math::min);
+            }
+        }
+    }
+
+    /**
+     * Returns the words that may be within the fuzzy edit distance of {@code term}.
+     * Such a word shares at least {@code minShared} of the {@code n} trigrams of the term, so it has at least one of
+     * any {@code n - minShared + 1} of them. Only the words under the rarest trigrams are collected, which skips the
+     * long posting lists of common trigrams. When the term is too short or repetitive for its trigrams to rule out any
+     * word, every word is a candidate.
+     */
+    private Iterable<String> getFuzzyCandidates(String term) {
+        int maxDistance = NameContainsKeywordsPredicate.getMaxEditDistance(term.length());
+        Set<String> termGrams = getGrams(term);
+        int minSharedGrams = termGrams.size() - GRAM_LENGTH * maxDistance;
+        if (minSharedGrams <= 0) {
+            return ordinalsByToken.keySet();
+        }
+
+        List<Set<String>> postingLists = new ArrayList<>();
+        for (String gram : termGrams) {
+            postingLists.add(tokensByGram.getOrDefault(gram, Set.of()));
+        }
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<String> candidates = new HashSet<>();
+        for (Set<String> postingList : postingLists.subList(0, termGrams.size() - minSharedGrams + 1)) {
+            for (String token : postingList) {
+                if (Math.abs(token.length() - term.length()) <= maxDistance) {
+                    candidates.add(token);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static String[] getTokens(Person person) {
+        return person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+");
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code token}, padded so that its first and last characters start and end
+     * trigrams of their own.
+     */
+    private static Set<String> getGrams(String token) {
+        String padding = String.valueOf(PADDING).repeat(GRAM_LENGTH - 1);
+        String padded = padding + token + padding;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+}
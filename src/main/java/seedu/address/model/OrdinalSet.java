@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A mutable set of {@link PersonOrdinals person ordinals}, kept as a sorted array while it is sparse and as a bitmap
+ * once the array would take more space than the bitmap.
+ * This keeps a set that holds a few persons of a large roster, such as the persons sharing a name token, small.
+ */
+class OrdinalSet {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] sortedOrdinals = new int[INITIAL_CAPACITY];
+    private BitSet bitmap;
+    private int size;
+
+    /**
+     * Adds {@code ordinal} to this set.
+     */
+    void add(int ordinal) {
+        if (bitmap != null) {
+            if (!bitmap.get(ordinal)) {
+                bitmap.set(ordinal);
+                size++;
+            }
+            return;
+        }
+
+        int index = Arrays.binarySearch(sortedOrdinals, 0, size, ordinal);
+        if (index >= 0) {
+            return;
+        }
+        int insertionPoint = -index - 1;
+        if (size == sortedOrdinals.length) {
+            int maxOrdinal = Math.max(ordinal, sortedOrdinals[size - 1]);
+            if ((long) Integer.SIZE * (size + 1) > maxOrdinal) {
+                convertToBitmap();
+                add(ordinal);
+                return;
+            }
+            sortedOrdinals = Arrays.copyOf(sortedOrdinals, size * 2);
+        }
+        System.arraycopy(sortedOrdinals, insertionPoint, sortedOrdinals, insertionPoint + 1, size - insertionPoint);
+        sortedOrdinals[insertionPoint] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes {@code ordinal} from this set, if present.
+     */
+    void remove(int ordinal) {
+        if (bitmap != null) {
+            if (bitmap.get(ordinal)) {
+                bitmap.clear(ordinal);
+                size--;
+            }
+            return;
+        }
+
+        int index = Arrays.binarySearch(sortedOrdinals, 0, size, ordinal);
+        if (index >= 0) {
+            System.arraycopy(sortedOrdinals, index + 1, sortedOrdinals, index, size - index - 1);
+            size--;
+        }
+    }
+
+    /**
+     * Returns true if this set contains {@code ordinal}.
+     */
+    boolean contains(int ordinal) {
+        return bitmap != null ? bitmap.get(ordinal) : Arrays.binarySearch(sortedOrdinals, 0, size, ordinal) >= 0;
+    }
+
+    /**
+     * Returns the smallest ordinal in this set that is at least {@code fromOrdinal}, or -1 if there is none.
+     */
+    int nextOrdinal(int fromOrdinal) {
+        if (bitmap != null) {
+            return bitmap.nextSetBit(fromOrdinal);
+        }
+        int index = Arrays.binarySearch(sortedOrdinals, 0, size, fromOrdinal);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return index < size ? sortedOrdinals[index] : -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Sets the bits of {@code target} for the ordinals in this set.
+     */
+    void orInto(BitSet target) {
+        if (bitmap != null) {
+            target.or(bitmap);
+            return;
+        }
+        for (int i = 0; i < size; i++) {
+            target.set(sortedOrdinals[i]);
+        }
+    }
+
+    /**
+     * Returns a new bitmap of the ordinals in this set.
+     */
+    BitSet toBitSet() {
+        BitSet copy = new BitSet();
+        orInto(copy);
+        return copy;
+    }
+
+    private void convertToBitmap() {
+        bitmap = new BitSet();
+        for (int i = 0; i < size; i++) {
+            bitmap.set(sortedOrdinals[i]);
+        }
+        sortedOrdinals = null;
+    }
+
+}
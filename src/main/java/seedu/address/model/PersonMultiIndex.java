@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps each key to the persons that have it, where the keys of a person are given by a key extractor.
+ * The persons under a key are kept as an {@link OrdinalSet} of their {@link PersonOrdinals ordinals}, so that looking
+ * up a key does not scan the roster.
+ * The index is kept up to date one person at a time.
+ *
+ * @param <K> the type of the keys, which must have value-based {@code equals} and {@code hashCode}.
+ */
+class PersonMultiIndex<K> {
+
+    private final PersonOrdinals ordinals;
+    private final Function<Person, Collection<K>> keyExtractor;
+    private final Map<K, OrdinalSet> ordinalsByKey = new HashMap<>();
+
+    /**
+     * Creates an empty index over the persons numbered by {@code ordinals}, that files each person under
+     * the keys returned by {@code keyExtractor}.
+     */
+    PersonMultiIndex(PersonOrdinals ordinals, Function<Person, Collection<K>> keyExtractor) {
+        this.ordinals = requireNonNull(ordinals);
+        this.keyExtractor = requireNonNull(keyExtractor);
+    }
+
+    /**
+     * Files {@code person}, numbered {@code ordinal}, under each of its keys.
+     */
+    void add(Person person, int ordinal) {
+        for (K key : keyExtractor.apply(person)) {
+            ordinalsByKey.computeIfAbsent(key, unused -> new OrdinalSet()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes {@code person}, numbered {@code ordinal}, from under each of its keys.
+     */
+    void remove(Person person, int ordinal) {
+        for (K key : keyExtractor.apply(person)) {
+            OrdinalSet keyOrdinals = ordinalsByKey.get(key);
+            if (keyOrdinals != null) {
+                keyOrdinals.remove(ordinal);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    void clear() {
+        ordinalsByKey.clear();
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons filed under {@code key}, in the order of their ordinals.
+     * The view reflects later changes to the index.
+     */
+    Set<Person> get(K key) {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Person> iterator() {
+                return new OrdinalIterator(ordinalsByKey.get(key));
+            }
+
+            @Override
+            public int size() {
+                OrdinalSet keyOrdinals = ordinalsByKey.get(key);
+                return keyOrdinals == null ? 0 : keyOrdinals.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Person)) {
+                    return false;
+                }
+                OrdinalSet keyOrdinals = ordinalsByKey.get(key);
+                int ordinal = ordinals.ordinalOf((Person) o);
+                return keyOrdinals != null && ordinal >= 0 && keyOrdinals.contains(ordinal);
+            }
+        };
+    }
+
+    /**
+     * Returns true if any person is filed under {@code key}.
+     */
+    boolean containsKey(K key) {
+        OrdinalSet keyOrdinals = ordinalsByKey.get(key);
+        return keyOrdinals != null && !keyOrdinals.isEmpty();
+    }
+
+    /**
+     * Iterates over the persons numbered by the ordinals in an {@code OrdinalSet}.
+     */
+    private class OrdinalIterator implements Iterator<Person> {
+        private final OrdinalSet keyOrdinals;
+        private int nextOrdinal;
+
+        OrdinalIterator(OrdinalSet keyOrdinals) {
+            this.keyOrdinals = keyOrdinals;
+            this.nextOrdinal = keyOrdinals == null ? -1 : keyOrdinals.nextOrdinal(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextOrdinal >= 0;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Person person = ordinals.get(nextOrdinal);
+            nextOrdinal = keyOrdinals.nextOrdinal(nextOrdinal + 1);
+            return person;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.person.NameContainsKeywordsPredicate.NO_MATCH;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Accepts the persons whose name matches a {@link NameContainsKeywordsPredicate} and ranks them by how closely they
+ * match, best match first. The scores of the persons matching when this search was created are looked up from the
+ * {@link PersonOrdinals ordinals} found by a {@link NameTokenIndex}.
+ * <p>
+ * A person that was numbered after the search was created, such as a person added or edited since, is scored by the
+ * predicate directly instead.
+ */
+class PersonNameSearch implements Predicate<Person>, Comparator<Person> {
+
+    private final PersonOrdinals ordinals;
+    private final Map<Integer, Integer> scoresByOrdinal;
+    private final long stamp;
+    private final NameContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates a search over the persons numbered by {@code ordinals}, where {@code scoresByOrdinal} must hold the
+     * scores of the persons that currently match {@code predicate}.
+     */
+    PersonNameSearch(PersonOrdinals ordinals, Map<Integer, Integer> scoresByOrdinal,
+            NameContainsKeywordsPredicate predicate) {
+        requireAllNonNull(ordinals, scoresByOrdinal, predicate);
+        this.ordinals = ordinals;
+        this.scoresByOrdinal = scoresByOrdinal;
+        this.stamp = ordinals.getClock();
+        this.predicate = predicate;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getMatchScore(person) != NO_MATCH;
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        return Integer.compare(getMatchScore(first), getMatchScore(second));
+    }
+
+    private int getMatchScore(Person person) {
+        int ordinal = ordinals.ordinalOf(person);
+        if (ordinal < 0 || ordinals.getStamp(ordinal) > stamp) {
+            return predicate.getMatchScore(person);
+        }
+        return scoresByOrdinal.getOrDefault(ordinal, NO_MATCH);
+    }
+
+}
@@ -0,0 +1,99 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Numbers the persons of an address book with small, dense ordinals, so that sets of persons can be kept as
+ * bitmaps. The ordinal of a removed person is reused by the next person added.
+ * <p>
+ * Every assignment of an ordinal is also stamped with an increasing counter, which lets a bitmap computed
+ * earlier tell whether a person was numbered after it.
+ */
+class PersonOrdinals {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Name, Integer> ordinalsByName = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private Person[] persons = new Person[INITIAL_CAPACITY];
+    private long[] stamps = new long[INITIAL_CAPACITY];
+    private int nextOrdinal;
+    private long clock;
+
+    /**
+     * Numbers {@code person} and returns its ordinal.
+     * No other person with the same name may be numbered.
+     */
+    int add(Person person) {
+        int ordinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.pop();
+        if (ordinal == persons.length) {
+            persons = Arrays.copyOf(persons, ordinal * 2);
+            stamps = Arrays.copyOf(stamps, ordinal * 2);
+        }
+        persons[ordinal] = person;
+        stamps[ordinal] = ++clock;
+        ordinalsByName.put(person.getName(), ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Frees the ordinal of the person with the same name as {@code person} and returns it,
+     * or returns -1 if there is no such person.
+     */
+    int remove(Person person) {
+        Integer ordinal = ordinalsByName.remove(person.getName());
+        if (ordinal == null) {
+            return -1;
+        }
+        persons[ordinal] = null;
+        freeOrdinals.push(ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, or -1 if this very instance is not numbered.
+     */
+    int ordinalOf(Person person) {
+        Integer ordinal = ordinalsByName.get(person.getName());
+        return ordinal != null && persons[ordinal] == person ? ordinal : -1;
+    }
+
+    /**
+     * Returns the person numbered {@code ordinal}, or null if the ordinal is free.
+     */
+    Person get(int ordinal) {
+        return ordinal < nextOrdinal ? persons[ordinal] : null;
+    }
+
+    /**
+     * Returns the stamp of the latest assignment of {@code ordinal}.
+     */
+    long getStamp(int ordinal) {
+        return stamps[ordinal];
+    }
+
+    /**
+     * Returns the stamp of the latest assignment of any ordinal.
+     */
+    long getClock() {
+        return clock;
+    }
+
+    /**
+     * Frees every ordinal.
+     */
+    void clear() {
+        ordinalsByName.clear();
+        freeOrdinals.clear();
+        Arrays.fill(persons, 0, nextOrdinal, null);
+        nextOrdinal = 0;
+    }
+
+}
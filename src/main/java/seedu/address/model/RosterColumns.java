@@ -0,0 +1,170 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * A column-oriented copy of the attributes of the persons of an address book that are aggregated over the whole
+ * roster, indexed by {@link PersonOrdinals person ordinal}.
+ * Teams and positions are dictionary-encoded into {@code int} columns, and the captains and injured persons are
+ * bitmaps, so that {@link #computeStats(List, List)} runs in a few tight loops over arrays instead of visiting every
+ * {@code Person}.
+ */
+class RosterColumns {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int ABSENT = -1;
+
+    private final Map<Team, Integer> teamCodes = new HashMap<>();
+    private final List<Team> teamsByCode = new ArrayList<>();
+    private final Map<Position, Integer> positionCodes = new HashMap<>();
+    private final List<Position> positionsByCode = new ArrayList<>();
+
+    private int[] teamColumn = newColumn(INITIAL_CAPACITY);
+    private int[] positionColumn = newColumn(INITIAL_CAPACITY);
+    private final BitSet captains = new BitSet();
+    private final BitSet injured = new BitSet();
+    private int ordinalLimit;
+
+    /**
+     * Records the attributes of {@code person}, numbered {@code ordinal}.
+     */
+    void add(Person person, int ordinal) {
+        if (ordinal >= teamColumn.length) {
+            int capacity = Math.max(ordinal + 1, teamColumn.length * 2);
+            teamColumn = growColumn(teamColumn, capacity);
+            positionColumn = growColumn(positionColumn, capacity);
+        }
+        teamColumn[ordinal] = encode(person.getTeam(), teamCodes, teamsByCode);
+        positionColumn[ordinal] = encode(person.getPosition(), positionCodes, positionsByCode);
+        captains.set(ordinal, person.isCaptain());
+        injured.set(ordinal, isInjured(person));
+        ordinalLimit = Math.max(ordinalLimit, ordinal + 1);
+    }
+
+    /**
+     * Forgets the attributes of the person numbered {@code ordinal}.
+     */
+    void remove(int ordinal) {
+        teamColumn[ordinal] = ABSENT;
+        positionColumn[ordinal] = ABSENT;
+        captains.clear(ordinal);
+        injured.clear(ordinal);
+    }
+
+    /**
+     * Forgets every person, and the teams and positions they had.
+     */
+    void clear() {
+        teamCodes.clear();
+        teamsByCode.clear();
+        positionCodes.clear();
+        positionsByCode.clear();
+        Arrays.fill(teamColumn, ABSENT);
+        Arrays.fill(positionColumn, ABSENT);
+        captains.clear();
+        injured.clear();
+        ordinalLimit = 0;
+    }
+
+    /**
+     * Returns the statistics of the recorded persons, broken down over {@code teams} and {@code positions} in their
+     * order, followed by any other team or position that a recorded person has.
+     */
+    RosterStats computeStats(List<Team> teams, List<Position> positions) {
+        int[] playersByTeam = new int[teamsByCode.size()];
+        int[] playersByPosition = new int[positionsByCode.size()];
+        int playerCount = 0;
+        for (int ordinal = 0; ordinal < ordinalLimit; ordinal++) {
+            int teamCode = teamColumn[ordinal];
+            if (teamCode != ABSENT) {
+                playersByTeam[teamCode]++;
+                playersByPosition[positionColumn[ordinal]]++;
+                playerCount++;
+            }
+        }
+        int[] captainsByTeam = countByTeam(captains);
+        int[] injuredByTeam = countByTeam(injured);
+
+        Map<Team, RosterStats.TeamStats> teamStats = new LinkedHashMap<>();
+        for (Team team : teams) {
+            Integer code = teamCodes.get(team);
+            teamStats.put(team, code == null
+                    ? new RosterStats.TeamStats(0, 0, 0)
+                    : new RosterStats.TeamStats(playersByTeam[code], injuredByTeam[code], captainsByTeam[code]));
+        }
+        for (int code = 0; code < teamsByCode.size(); code++) {
+            if (playersByTeam[code] > 0) {
+                teamStats.putIfAbsent(teamsByCode.get(code),
+                        new RosterStats.TeamStats(playersByTeam[code], injuredByTeam[code], captainsByTeam[code]));
+            }
+        }
+
+        Map<Position, Integer> positionStats = new LinkedHashMap<>();
+        for (Position position : positions) {
+            Integer code = positionCodes.get(position);
+            positionStats.put(position, code == null ? 0 : playersByPosition[code]);
+        }
+        for (int code = 0; code < positionsByCode.size(); code++) {
+            if (playersByPosition[code] > 0) {
+                positionStats.putIfAbsent(positionsByCode.get(code), playersByPosition[code]);
+            }
+        }
+        return new RosterStats(playerCount, injured.cardinality(), captains.cardinality(), teamStats,
+                positionStats);
+    }
+
+    /**
+     * Returns the number of persons in {@code persons} in each team, indexed by team code.
+     */
+    private int[] countByTeam(BitSet persons) {
+        int[] counts = new int[teamsByCode.size()];
+        for (int ordinal = persons.nextSetBit(0); ordinal >= 0; ordinal = persons.nextSetBit(ordinal + 1)) {
+            counts[teamColumn[ordinal]]++;
+        }
+        return counts;
+    }
+
+    private static <T> int encode(T value, Map<T, Integer> codes, List<T> valuesByCode) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = valuesByCode.size();
+            codes.put(value, code);
+            valuesByCode.add(value);
+        }
+        return code;
+    }
+
+    private static boolean isInjured(Person person) {
+        for (Injury injury : person.getInjuries()) {
+            if (!injury.equals(Injury.DEFAULT_INJURY_STATUS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[] newColumn(int capacity) {
+        int[] column = new int[capacity];
+        Arrays.fill(column, ABSENT);
+        return column;
+    }
+
+    private static int[] growColumn(int[] column, int capacity) {
+        int oldLength = column.length;
+        int[] grown = Arrays.copyOf(column, capacity);
+        Arrays.fill(grown, oldLength, capacity, ABSENT);
+        return grown;
+    }
+
+}
@@ -0,0 +1,163 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * Aggregate statistics of the players in an address book: how many there are, how many are injured and how many
+ * are captains, overall and per team, and how many play each position.
+ * Guarantees: immutable.
+ */
+public class RosterStats {
+
+    private final int playerCount;
+    private final int injuredCount;
+    private final int captainCount;
+    private final Map<Team, TeamStats> teamStats;
+    private final Map<Position, Integer> positionCounts;
+
+    /**
+     * Creates statistics with the given overall counts, and the given per-team statistics and per-position player
+     * counts, which are reported in the iteration order of their maps.
+     */
+    public RosterStats(int playerCount, int injuredCount, int captainCount, Map<Team, TeamStats> teamStats,
+            Map<Position, Integer> positionCounts) {
+        requireAllNonNull(teamStats, positionCounts);
+        this.playerCount = playerCount;
+        this.injuredCount = injuredCount;
+        this.captainCount = captainCount;
+        this.teamStats = Collections.unmodifiableMap(new LinkedHashMap<>(teamStats));
+        this.positionCounts = Collections.unmodifiableMap(new LinkedHashMap<>(positionCounts));
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public int getInjuredCount() {
+        return injuredCount;
+    }
+
+    public int getCaptainCount() {
+        return captainCount;
+    }
+
+    /**
+     * Returns the statistics of each team, listed teams first, as an unmodifiable map.
+     */
+    public Map<Team, TeamStats> getTeamStats() {
+        return teamStats;
+    }
+
+    /**
+     * Returns the number of players in each position, listed positions first, as an unmodifiable map.
+     */
+    public Map<Position, Integer> getPositionCounts() {
+        return positionCounts;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RosterStats)) {
+            return false;
+        }
+
+        RosterStats otherStats = (RosterStats) other;
+        return playerCount == otherStats.playerCount
+                && injuredCount == otherStats.injuredCount
+                && captainCount == otherStats.captainCount
+                && teamStats.equals(otherStats.teamStats)
+                && positionCounts.equals(otherStats.positionCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(playerCount, injuredCount, captainCount, teamStats, positionCounts);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("playerCount", playerCount)
+                .add("injuredCount", injuredCount)
+                .add("captainCount", captainCount)
+                .add("teamStats", teamStats)
+                .add("positionCounts", positionCounts)
+                .toString();
+    }
+
+    /**
+     * The number of players, injured players and captains of a team.
+     */
+    public static class TeamStats {
+
+        private final int playerCount;
+        private final int injuredCount;
+        private final int captainCount;
+
+        /**
+         * Creates the statistics of a team with the given counts.
+         */
+        public TeamStats(int playerCount, int injuredCount, int captainCount) {
+            this.playerCount = playerCount;
+            this.injuredCount = injuredCount;
+            this.captainCount = captainCount;
+        }
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        public int getInjuredCount() {
+            return injuredCount;
+        }
+
+        public int getCaptainCount() {
+            return captainCount;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof TeamStats)) {
+                return false;
+            }
+
+            TeamStats otherStats = (TeamStats) other;
+            return playerCount == otherStats.playerCount
+                    && injuredCount == otherStats.injuredCount
+                    && captainCount == otherStats.captainCount;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(playerCount, injuredCount, captainCount);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("playerCount", playerCount)
+                    .add("injuredCount", injuredCount)
+                    .add("captainCount", captainCount)
+                    .toString();
+        }
+    }
+}
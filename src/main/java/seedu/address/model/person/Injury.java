@@ -3,18 +3,24 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValueCache;
+
 /**
  * Represents a Person's injury status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidInjuryName(String)}
  */
 public class Injury {
 
-    public static final Injury DEFAULT_INJURY_STATUS = new Injury("FIT");
+    public static final Injury DEFAULT_INJURY_STATUS = Injury.of("FIT");
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
     public static final String MESSAGE_CONSTRAINTS =
             "Injuries should only contain alphanumeric characters and spaces, and it should not be blank";
 
     private final String injuryName;
+    private final int hashCode;
 
     /**
      * Constructs a {@code Injury}.
@@ -25,13 +31,23 @@ public class Injury {
         requireNonNull(name);
         checkArgument(isValidInjuryName(name), MESSAGE_CONSTRAINTS);
         this.injuryName = name;
+        this.hashCode = name.toLowerCase(Locale.ROOT).hashCode();
+    }
+
+    /**
+     * Returns an injury named {@code name}, sharing one instance between the callers that ask for the same name.
+     * Prefer this to the constructor when many persons may have the injury.
+     */
+    public static Injury of(String name) {
+        requireNonNull(name);
+        return Shared.CACHE.get(name);
     }
 
     /**
      * Returns true if a given string is a valid injury name.
      */
     public static boolean isValidInjuryName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return Shared.VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -45,12 +61,12 @@ public class Injury {
             return false;
         }
         Injury otherInjury = (Injury) other;
-        return this.injuryName.equalsIgnoreCase(otherInjury.injuryName);
+        return hashCode == otherInjury.hashCode && this.injuryName.equalsIgnoreCase(otherInjury.injuryName);
     }
 
     @Override
     public int hashCode() {
-        return this.injuryName.toLowerCase().hashCode();
+        return hashCode;
     }
 
     public String getInjuryName() {
@@ -61,4 +77,13 @@ public class Injury {
     public String toString() {
         return this.injuryName;
     }
+
+    /**
+     * Holds the compiled pattern and the cache, which are created on first use so that they are ready before
+     * {@link #DEFAULT_INJURY_STATUS} is.
+     */
+    private static class Shared {
+        private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+        private static final ValueCache<Injury> CACHE = new ValueCache<>(1024, Injury::new);
+    }
 }
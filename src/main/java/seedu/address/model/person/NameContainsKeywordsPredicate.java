@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,8 +9,17 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * <p>
+ * A plain keyword must match a word of the name exactly, ignoring case. A keyword ending with
+ * {@value #PREFIX_MARKER} matches the words that start with the rest of the keyword, and a keyword ending with
+ * {@value #FUZZY_MARKER} matches the words within {@link #getMaxEditDistance(int) a few typos} of the rest of the
+ * keyword.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+    public static final String PREFIX_MARKER = "*";
+    public static final String FUZZY_MARKER = "~";
+    public static final int NO_MATCH = -1;
+
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -18,8 +28,92 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return getMatchScore(person) != NO_MATCH;
+    }
+
+    /**
+     * Returns how closely the name of {@code person} matches the best matching keyword, where 0 is an exact match
+     * and larger scores are worse matches, or {@link #NO_MATCH} if no keyword matches.
+     */
+    public int getMatchScore(Person person) {
+        int bestScore = NO_MATCH;
+        for (String keyword : keywords) {
+            int score;
+            if (isPrefixKeyword(keyword) || isFuzzyKeyword(keyword)) {
+                score = getBestTokenScore(keyword, person.getName().fullName);
+            } else {
+                score = StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword) ? 0 : NO_MATCH;
+            }
+            if (score != NO_MATCH && (bestScore == NO_MATCH || score < bestScore)) {
+                bestScore = score;
+            }
+        }
+        return bestScore;
+    }
+
+    private static int getBestTokenScore(String keyword, String fullName) {
+        int bestScore = NO_MATCH;
+        for (String token : fullName.toLowerCase(Locale.ROOT).split("\\s+")) {
+            int score = getMatchScore(keyword, token);
+            if (score != NO_MATCH && (bestScore == NO_MATCH || score < bestScore)) {
+                bestScore = score;
+            }
+        }
+        return bestScore;
+    }
+
+    /**
+     * Returns how closely the lower case name word {@code token} matches {@code keyword}, or {@link #NO_MATCH}.
+     * A prefix match scores the number of characters the word has beyond the prefix, and a fuzzy match scores its
+     * edit distance.
+     */
+    public static int getMatchScore(String keyword, String token) {
+        String term = getSearchTerm(keyword);
+        if (isPrefixKeyword(keyword)) {
+            return token.startsWith(term) ? token.length() - term.length() : NO_MATCH;
+        }
+        if (isFuzzyKeyword(keyword)) {
+            int maxDistance = getMaxEditDistance(term.length());
+            int distance = StringUtil.editDistanceIgnoreCase(term, token, maxDistance);
+            return distance <= maxDistance ? distance : NO_MATCH;
+        }
+        return term.equals(token) ? 0 : NO_MATCH;
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for the name words starting with it.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_MARKER);
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for the name words close to it.
+     */
+    public static boolean isFuzzyKeyword(String keyword) {
+        return keyword.endsWith(FUZZY_MARKER);
+    }
+
+    /**
+     * Returns {@code keyword} without its search marker, trimmed and in lower case.
+     */
+    public static String getSearchTerm(String keyword) {
+        String term = keyword.trim();
+        if (isPrefixKeyword(term) || isFuzzyKeyword(term)) {
+            term = term.substring(0, term.length() - 1);
+        }
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the number of typos tolerated by a fuzzy keyword of {@code length} characters.
+     * Short keywords tolerate fewer typos, as they would otherwise match most short names.
+     */
+    public static int getMaxEditDistance(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
     }
 
     @Override
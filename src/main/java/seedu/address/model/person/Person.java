@@ -3,10 +3,10 @@ package seedu.address.model.person;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.CompactSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.position.Position;
 import seedu.address.model.tag.Tag;
@@ -15,9 +15,13 @@ import seedu.address.model.team.Team;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * The tags and injuries are held in {@link CompactSet}s, which the {@code with...} methods share with the new
+ * person instead of copying them.
  */
 public class Person {
     public static final boolean DEFAULT_CAPTAIN_STATUS = false;
+    private static final Set<Injury> DEFAULT_INJURIES =
+            CompactSet.copyOf(Collections.singleton(Injury.DEFAULT_INJURY_STATUS));
 
     // Identity fields
     private final Name name;
@@ -26,11 +30,12 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Set<Injury> injuries = new HashSet<>();
+    private final Set<Tag> tags;
+    private final Set<Injury> injuries;
     private final Team team;
     private final Position position;
     private final boolean isCaptain;
+    private final int hashCode;
 
     /**
      * Creates a Person object assigned to a team with the default injury status, position, and captain status.
@@ -45,10 +50,11 @@ public class Person {
         this.email = email;
         this.address = address;
         this.team = team;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
         this.position = Position.DEFAULT_POSITION;
-        this.injuries.add(Injury.DEFAULT_INJURY_STATUS);
+        this.injuries = DEFAULT_INJURIES;
         this.isCaptain = DEFAULT_CAPTAIN_STATUS;
+        this.hashCode = computeHashCode();
     }
 
     /**
@@ -65,10 +71,16 @@ public class Person {
         this.email = email;
         this.address = address;
         this.team = team;
-        this.tags.addAll(tags);
+        this.tags = CompactSet.copyOf(tags);
         this.position = position;
-        this.injuries.addAll(injuries);
+        this.injuries = CompactSet.copyOf(injuries);
         this.isCaptain = isCaptain;
+        this.hashCode = computeHashCode();
+    }
+
+    private int computeHashCode() {
+        // use this method for custom fields hashing instead of implementing your own
+        return Objects.hash(name, phone, email, address, team, tags, position, injuries, isCaptain);
     }
 
     public Name getName() {
@@ -105,7 +117,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -114,7 +126,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Injury> getInjuries() {
-        return Collections.unmodifiableSet(injuries);
+        return injuries;
     }
 
     /**
@@ -166,7 +178,9 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        // Persons are immutable, so the hash codes computed on construction rule out most unequal persons cheaply
+        return hashCode == otherPerson.hashCode
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -179,8 +193,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, team, tags, position, injuries, isCaptain);
+        return hashCode;
     }
 
     @Override
@@ -3,8 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +21,10 @@ import seedu.address.model.team.Team;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@code Name} (which compares case-insensitively) so that identity lookups,
+ * duplicate checks and replacements do not need to scan the list. The index maps each name to the slot of its
+ * person in the backing list and is kept in sync with every mutation.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +34,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> slotsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slotsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -46,11 +53,31 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        slotsByName.put(toAdd.getName(), internalList.size());
         internalList.add(toAdd);
         assert contains(toAdd) : "Added person should now be in the list";
         assert internalList.size() > 0 : "List should not be empty after adding";
     }
 
+    /**
+     * Adds all of {@code toAdd} to the end of the list, as a single change to the list.
+     * None of the persons may already exist in the list or appear twice in {@code toAdd}; if one does, the list is
+     * left unchanged.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Integer> newSlotsByName = indexByName(toAdd);
+        for (Name name : newSlotsByName.keySet()) {
+            if (slotsByName.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int start = internalList.size();
+        newSlotsByName.forEach((name, slot) -> slotsByName.put(name, start + slot));
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -59,7 +86,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -69,6 +96,10 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        if (!target.isSamePerson(editedPerson)) {
+            slotsByName.remove(target.getName());
+            slotsByName.put(editedPerson.getName(), index);
+        }
     }
 
     /**
@@ -77,14 +108,21 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        slotsByName.remove(toRemove.getName());
+        reindexFrom(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        slotsByName.clear();
+        slotsByName.putAll(replacement.slotsByName);
     }
 
     /**
@@ -93,21 +131,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> newSlotsByName = indexByName(persons);
 
         internalList.setAll(persons);
+        slotsByName.clear();
+        slotsByName.putAll(newSlotsByName);
     }
 
+    /**
+     * Returns the person in the list with the given {@code name} (case-insensitive).
+     *
+     * @throws PersonNotFoundException if no such person exists.
+     */
     public Person getPersonByName(Name name) {
         requireNonNull(name);
-        for (Person person : internalList) {
-            if (person.getName().equals(name)) {
-                return person;
-            }
+        Integer slot = slotsByName.get(name);
+        if (slot == null) {
+            throw new PersonNotFoundException();
         }
-        throw new PersonNotFoundException();
+        return internalList.get(slot);
     }
 
     /**
@@ -148,17 +190,39 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the slot of the person that is equal to {@code person} in every field, or -1 if there is none.
+     * Since names are unique within the list, only the person sharing {@code person}'s name can be equal to it.
+     */
+    private int indexOf(Person person) {
+        Integer slot = slotsByName.get(person.getName());
+        if (slot == null || !internalList.get(slot).equals(person)) {
+            return -1;
+        }
+        return slot;
+    }
+
+    /**
+     * Refreshes the name index for every slot from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            slotsByName.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the name index of {@code persons}, built in a single pass.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains two persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 
     /**
@@ -169,7 +233,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void assignTeam(Person person, Team team) {
         requireAllNonNull(person, team);
 
-        int index = internalList.indexOf(person);
+        int index = indexOf(person);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -3,7 +3,11 @@ package seedu.address.model.position;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValueCache;
 
 /**
  * Represents a player position in the address book (e.g. LW, RW, ST).
@@ -12,11 +16,12 @@ import java.util.Objects;
  */
 public class Position {
 
-    public static final Position DEFAULT_POSITION = new Position("NONE");
+    public static final Position DEFAULT_POSITION = Position.of("NONE");
     public static final String MESSAGE_CONSTRAINTS = "Position name can only contain alphanumeric characters";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
     private final String name;
+    private final int hashCode;
 
     /**
      * Constructs a {@code Position} with a validated name.
@@ -28,13 +33,23 @@ public class Position {
         String trimmed = name.trim();
         checkArgument(isValidPositionName(trimmed), MESSAGE_CONSTRAINTS);
         this.name = trimmed;
+        this.hashCode = Objects.hash(trimmed.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns a position named {@code name}, sharing one instance between the callers that ask for the same name.
+     * Prefer this to the constructor when many persons may play the position.
+     */
+    public static Position of(String name) {
+        requireAllNonNull(name);
+        return Shared.CACHE.get(name);
     }
 
     /**
      * Returns true if the given string is a valid position name.
      */
     public static boolean isValidPositionName(String test) {
-        return test != null && test.trim().matches(VALIDATION_REGEX);
+        return test != null && Shared.VALIDATION_PATTERN.matcher(test.trim()).matches();
     }
 
     /**
@@ -63,16 +78,25 @@ public class Position {
             return false;
         }
         Position o = (Position) other;
-        return o.getName().equalsIgnoreCase(getName());
+        return hashCode == o.hashCode && o.getName().equalsIgnoreCase(getName());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name.toLowerCase());
+        return hashCode;
     }
 
     @Override
     public String toString() {
         return this.name;
     }
+
+    /**
+     * Holds the compiled pattern and the cache, which are created on first use so that they are ready before
+     * {@link #DEFAULT_POSITION} is.
+     */
+    private static class Shared {
+        private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+        private static final ValueCache<Position> CACHE = new ValueCache<>(1024, Position::new);
+    }
 }
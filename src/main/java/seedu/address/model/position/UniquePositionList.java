@@ -3,8 +3,11 @@ package seedu.address.model.position;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -14,19 +17,31 @@ import seedu.address.model.position.exceptions.PositionNotFoundException;
 /**
  * A list of positions that enforces uniqueness between its elements and does not allow nulls.
  * A position is considered unique by {@link Position#isSamePosition(Position)}.
+ * The positions in the list are the canonical instances of their names, which {@link #intern(Position)} hands out.
  */
 public class UniquePositionList implements Iterable<Position> {
 
     private final ObservableList<Position> internalList = FXCollections.observableArrayList();
     private final ObservableList<Position> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Position#equals matches Position#isSamePosition, so the positions can be looked up by hash
+    private final Map<Position, Position> canonicalPositions = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent position as the given argument.
      */
     public boolean contains(Position toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePosition);
+        return canonicalPositions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position in the list that matches {@code position}, or {@code position} itself if the list has no
+     * such position.
+     */
+    public Position intern(Position position) {
+        requireNonNull(position);
+        return canonicalPositions.getOrDefault(position, position);
     }
 
     /**
@@ -38,6 +53,7 @@ public class UniquePositionList implements Iterable<Position> {
             throw new DuplicatePositionException();
         }
         internalList.add(toAdd);
+        canonicalPositions.put(toAdd, toAdd);
     }
 
     /**
@@ -48,6 +64,7 @@ public class UniquePositionList implements Iterable<Position> {
         if (!internalList.remove(toRemove)) {
             throw new PositionNotFoundException();
         }
+        canonicalPositions.remove(toRemove);
     }
 
     /**
@@ -57,12 +74,11 @@ public class UniquePositionList implements Iterable<Position> {
      */
     public Position getByName(String name) {
         requireNonNull(name);
-        for (Position p : internalList) {
-            if (p.getName().equalsIgnoreCase(name.trim())) {
-                return p;
-            }
+        Position position = Position.isValidPositionName(name) ? canonicalPositions.get(Position.of(name)) : null;
+        if (position == null) {
+            throw new PositionNotFoundException();
         }
-        throw new PositionNotFoundException();
+        return position;
     }
 
     /**
@@ -74,6 +90,10 @@ public class UniquePositionList implements Iterable<Position> {
             throw new DuplicatePositionException();
         }
         internalList.setAll(positions);
+        canonicalPositions.clear();
+        for (Position position : positions) {
+            canonicalPositions.put(position, position);
+        }
     }
 
     /**
@@ -88,15 +108,13 @@ public class UniquePositionList implements Iterable<Position> {
         return internalList.iterator();
     }
 
+    /**
+     * Returns true if {@code positions} contains only unique positions.
+     * {@code Position#equals} matches {@code Position#isSamePosition}, so a hashed set detects duplicates.
+     */
     private boolean positionsAreUnique(List<Position> positions) {
-        for (int i = 0; i < positions.size() - 1; i++) {
-            for (int j = i + 1; j < positions.size(); j++) {
-                if (positions.get(i).isSamePosition(positions.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        HashSet<Position> positionSet = new HashSet<>(positions);
+        return positionSet.size() == positions.size();
     }
 }
 
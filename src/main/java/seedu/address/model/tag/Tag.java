@@ -3,6 +3,10 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValueCache;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -11,6 +15,8 @@ public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final ValueCache<Tag> CACHE = new ValueCache<>(1024, Tag::new);
 
     public final String tagName;
 
@@ -25,11 +31,20 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns a tag named {@code tagName}, sharing one instance between the callers that ask for the same name.
+     * Prefer this to the constructor when many persons may have the tag.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return CACHE.get(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
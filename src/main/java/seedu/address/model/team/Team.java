@@ -3,7 +3,11 @@ package seedu.address.model.team;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Locale;
 import java.util.Objects;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValueCache;
 
 /**
  * Represents a Team in the address book.
@@ -13,9 +17,12 @@ public class Team {
     public static final String MESSAGE_CONSTRAINTS = "Team names should only contain alphanumeric characters"
             + " and spaces, and it should not be blank";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final ValueCache<Team> CACHE = new ValueCache<>(1024, Team::new);
 
     // Identity fields
     private final String name;
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -24,13 +31,23 @@ public class Team {
         requireAllNonNull(name);
         checkArgument(isValidTeamName(name), MESSAGE_CONSTRAINTS);
         this.name = name;
+        this.hashCode = Objects.hash(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns a team named {@code name}, sharing one instance between the callers that ask for the same name.
+     * Prefer this to the constructor when many persons may refer to the team.
+     */
+    public static Team of(String name) {
+        requireAllNonNull(name);
+        return CACHE.get(name);
     }
 
     /**
      * Returns true if a given string is a valid team name.
      */
     public static boolean isValidTeamName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public String getName() {
@@ -63,12 +80,13 @@ public class Team {
             return false;
         }
         Team otherTeam = (Team) other;
-        return otherTeam.getName().equalsIgnoreCase(getName());
+        // Canonical instances make the identity check above the usual way out; the cached hash rejects most others
+        return hashCode == otherTeam.hashCode && otherTeam.getName().equalsIgnoreCase(getName());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name.toLowerCase());
+        return hashCode;
     }
 
     @Override
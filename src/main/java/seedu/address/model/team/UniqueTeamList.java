@@ -4,9 +4,11 @@ package seedu.address.model.team;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,6 +22,9 @@ import seedu.address.model.team.exceptions.TeamNotFoundException;
  * unique in terms of identity in the UniqueTeamList. However, the removal of a team uses Team#equals(Object)
  * to ensure that the team with exactly the same fields will be removed.
  * <p>
+ * The teams in the list are the canonical instances of their names, which {@link #intern(Team)} hands out so that
+ * every person in a team can share one {@code Team}.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Team#isSameTeam(Team)
@@ -29,13 +34,15 @@ public class UniqueTeamList implements Iterable<Team> {
     private final ObservableList<Team> internalList = FXCollections.observableArrayList();
     private final ObservableList<Team> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Team#equals matches Team#isSameTeam, so the teams can be looked up by hash
+    private final Map<Team, Team> canonicalTeams = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent team as the given argument.
      */
     public boolean contains(Team toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTeam);
+        return canonicalTeams.containsKey(toCheck);
     }
 
     /**
@@ -44,10 +51,19 @@ public class UniqueTeamList implements Iterable<Team> {
      */
     public Team getTeamByName(Team toFind) {
         requireNonNull(toFind);
-        return internalList.stream()
-                .filter(toFind::isSameTeam)
-                .findFirst()
-                .orElseThrow(() -> new TeamNotFoundException());
+        Team team = canonicalTeams.get(toFind);
+        if (team == null) {
+            throw new TeamNotFoundException();
+        }
+        return team;
+    }
+
+    /**
+     * Returns the team in the list that matches {@code team}, or {@code team} itself if the list has no such team.
+     */
+    public Team intern(Team team) {
+        requireNonNull(team);
+        return canonicalTeams.getOrDefault(team, team);
     }
 
     /**
@@ -60,6 +76,7 @@ public class UniqueTeamList implements Iterable<Team> {
             throw new DuplicateTeamException();
         }
         internalList.add(toAdd);
+        canonicalTeams.put(toAdd, toAdd);
     }
 
     /**
@@ -80,6 +97,10 @@ public class UniqueTeamList implements Iterable<Team> {
         }
 
         internalList.setAll(teams);
+        canonicalTeams.clear();
+        for (Team team : teams) {
+            canonicalTeams.put(team, team);
+        }
     }
 
     /**
@@ -91,6 +112,7 @@ public class UniqueTeamList implements Iterable<Team> {
         if (!internalList.remove(toRemove)) {
             throw new TeamNotFoundException();
         }
+        canonicalTeams.remove(toRemove);
     }
 
 
@@ -0,0 +1,447 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.exceptions.DuplicatePositionException;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with a header holding a magic number, the format version and the number of strings, teams,
+ * positions and persons. It is followed by a table of the distinct team, position, injury and tag names, which
+ * the rest of the file refers to by their index in the table, then the teams, the positions and finally one
+ * length-prefixed record per person.
+ * <p>
+ * Files in the JSON format of {@link JsonAddressBookStorage} are still read, so switching an existing data file
+ * to this format needs no separate import step.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC_NUMBER = 0x504C424B; // "PLBK"
+    public static final short FORMAT_VERSION = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported.";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Binary data file refers to a name that does not exist.";
+    public static final String MESSAGE_TRUNCATED = "Binary data file is truncated.";
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + 4 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final boolean isAtomicSave;
+    private final int backupCount;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that saves atomically without keeping backups.
+     */
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, true, 0);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     * If {@code isAtomicSave} is true, each save replaces the file atomically and keeps up to {@code backupCount}
+     * previous versions of it, as described in {@link FileUtil#writeToFileAtomically}.
+     * Otherwise, the file is overwritten in place and no backups are kept.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isAtomicSave, int backupCount) {
+        this.filePath = filePath;
+        this.isAtomicSave = isAtomicSave;
+        this.backupCount = backupCount;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public boolean isAtomicSave() {
+        return isAtomicSave;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts with the magic number of this format.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        byte[] magic = new byte[Integer.BYTES];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return in.readNBytes(magic, 0, magic.length) == magic.length
+                    && ByteBuffer.wrap(magic).getInt() == MAGIC_NUMBER;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * A file in the JSON format is read as such.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        if (!isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is not in the binary format, reading it as JSON.");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.ContentWriter writer = out -> encode(addressBook, new DataOutputStream(out));
+        if (isAtomicSave) {
+            FileUtil.writeToFileAtomically(filePath, writer, backupCount);
+        } else {
+            FileUtil.writeToFile(filePath, writer);
+        }
+    }
+
+    //=========== Encoding =============================================================================
+
+    /**
+     * Writes {@code addressBook} to {@code out} in the binary format.
+     */
+    static void encode(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        for (Team team : addressBook.getTeamList()) {
+            strings.indexOf(team.getName());
+        }
+        for (Position position : addressBook.getPositionList()) {
+            strings.indexOf(position.getName());
+        }
+        for (Person person : addressBook.getPersonList()) {
+            strings.indexOf(person.getTeam().getName());
+            strings.indexOf(person.getPosition().getName());
+            person.getInjuries().forEach(injury -> strings.indexOf(injury.getInjuryName()));
+            person.getTags().forEach(tag -> strings.indexOf(tag.tagName));
+        }
+
+        out.writeInt(MAGIC_NUMBER);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(strings.size());
+        out.writeInt(addressBook.getTeamList().size());
+        out.writeInt(addressBook.getPositionList().size());
+        out.writeInt(addressBook.getPersonList().size());
+
+        for (String string : strings.getStrings()) {
+            writeString(out, string);
+        }
+        for (Team team : addressBook.getTeamList()) {
+            out.writeInt(strings.indexOf(team.getName()));
+        }
+        for (Position position : addressBook.getPositionList()) {
+            out.writeInt(strings.indexOf(position.getName()));
+        }
+
+        // Each person is written to a reused buffer first, so that its record can be prefixed with its length
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(record, person, strings);
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+        out.flush();
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, StringTable strings) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        out.writeInt(strings.indexOf(person.getTeam().getName()));
+        out.writeInt(strings.indexOf(person.getPosition().getName()));
+        out.writeBoolean(person.isCaptain());
+        out.writeInt(person.getInjuries().size());
+        for (Injury injury : person.getInjuries()) {
+            out.writeInt(strings.indexOf(injury.getInjuryName()));
+        }
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(strings.indexOf(tag.tagName));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    //=========== Decoding =============================================================================
+
+    /**
+     * Reads an address book in the binary format from {@code buffer}, starting at its current position.
+     *
+     * @throws IllegalValueException if the data is malformed or there were any data constraints violated.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC_NUMBER) {
+                throw new IllegalValueException(MESSAGE_TRUNCATED);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            int stringCount = readCount(buffer);
+            int teamCount = readCount(buffer);
+            int positionCount = readCount(buffer);
+            int personCount = readCount(buffer);
+
+            String[] strings = new String[stringCount];
+            for (int i = 0; i < stringCount; i++) {
+                strings[i] = readString(buffer);
+            }
+            NameDecoder decoder = new NameDecoder(strings);
+
+            List<Team> teams = new ArrayList<>(teamCount);
+            for (int i = 0; i < teamCount; i++) {
+                teams.add(decoder.team(buffer.getInt()));
+            }
+            List<Position> positions = new ArrayList<>(positionCount);
+            for (int i = 0; i < positionCount; i++) {
+                positions.add(decoder.position(buffer.getInt()));
+            }
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                persons.add(readPerson(buffer, decoder));
+                // Skips any fields appended to the record by a later version of the format
+                buffer.position(recordEnd);
+            }
+
+            return new AddressBook(persons, teams, positions);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateTeamException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+        } catch (DuplicatePositionException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_POSITION);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, NameDecoder decoder) throws IllegalValueException {
+        Name name = toModel(readString(buffer), Name::isValidName, Name.MESSAGE_CONSTRAINTS, Name::new);
+        Phone phone = toModel(readString(buffer), Phone::isValidPhone, Phone.MESSAGE_CONSTRAINTS, Phone::new);
+        Email email = toModel(readString(buffer), Email::isValidEmail, Email.MESSAGE_CONSTRAINTS, Email::new);
+        Address address = toModel(readString(buffer), Address::isValidAddress, Address.MESSAGE_CONSTRAINTS,
+                Address::new);
+        Team team = decoder.team(buffer.getInt());
+        Position position = decoder.position(buffer.getInt());
+        boolean isCaptain = buffer.get() != 0;
+
+        int injuryCount = readCount(buffer);
+        Set<Injury> injuries = new HashSet<>();
+        for (int i = 0; i < injuryCount; i++) {
+            injuries.add(decoder.injury(buffer.getInt()));
+        }
+        if (injuries.isEmpty()) {
+            injuries.add(Injury.DEFAULT_INJURY_STATUS);
+        }
+
+        int tagCount = readCount(buffer);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(decoder.tag(buffer.getInt()));
+        }
+
+        return new Person(name, phone, email, address, team, tags, position, injuries, isCaptain);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readCount(buffer);
+        String string;
+        if (buffer.hasArray()) {
+            string = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return string;
+    }
+
+    private static <T> T toModel(String value, Predicate<String> isValid, String constraints,
+                                 Function<String, T> constructor) throws IllegalValueException {
+        if (!isValid.test(value)) {
+            throw new IllegalValueException(constraints);
+        }
+        return constructor.apply(value);
+    }
+
+    /**
+     * Assigns each distinct string an index, in order of first appearance.
+     */
+    private static class StringTable {
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+
+        int indexOf(String string) {
+            Integer index = indexes.get(string);
+            if (index == null) {
+                index = strings.size();
+                indexes.put(string, index);
+                strings.add(string);
+            }
+            return index;
+        }
+
+        int size() {
+            return strings.size();
+        }
+
+        List<String> getStrings() {
+            return strings;
+        }
+    }
+
+    /**
+     * Turns indexes into the string table into model objects.
+     * Each distinct name is validated and converted only once, however many persons refer to it.
+     */
+    private static class NameDecoder {
+        private final String[] strings;
+        private final Team[] teams;
+        private final Position[] positions;
+        private final Injury[] injuries;
+        private final Tag[] tags;
+
+        NameDecoder(String[] strings) {
+            this.strings = strings;
+            this.teams = new Team[strings.length];
+            this.positions = new Position[strings.length];
+            this.injuries = new Injury[strings.length];
+            this.tags = new Tag[strings.length];
+        }
+
+        Team team(int index) throws IllegalValueException {
+            if (checkIndex(index) && teams[index] == null) {
+                teams[index] = toModel(strings[index], Team::isValidTeamName, Team.MESSAGE_CONSTRAINTS, Team::of);
+            }
+            return teams[index];
+        }
+
+        Position position(int index) throws IllegalValueException {
+            if (checkIndex(index) && positions[index] == null) {
+                positions[index] = toModel(strings[index], Position::isValidPositionName,
+                        Position.MESSAGE_CONSTRAINTS, Position::of);
+            }
+            return positions[index];
+        }
+
+        Injury injury(int index) throws IllegalValueException {
+            if (checkIndex(index) && injuries[index] == null) {
+                injuries[index] = toModel(strings[index], Injury::isValidInjuryName, Injury.MESSAGE_CONSTRAINTS,
+                        Injury::of);
+            }
+            return injuries[index];
+        }
+
+        Tag tag(int index) throws IllegalValueException {
+            if (checkIndex(index) && tags[index] == null) {
+                tags[index] = toModel(strings[index], Tag::isValidTagName, Tag.MESSAGE_CONSTRAINTS, Tag::of);
+            }
+            return tags[index];
+        }
+
+        private boolean checkIndex(int index) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * An immutable copy of the lists of an address book, which can be written out on another thread while the
+ * address book goes on changing.
+ * Persons, teams and positions are immutable, so copying the three lists freezes the state. Unlike copying into a
+ * new {@code AddressBook}, this does not rebuild any of the indexes of the address book.
+ */
+class FrozenAddressBook implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Team> teams;
+    private final ObservableList<Position> positions;
+
+    /**
+     * Creates a copy of the current lists of {@code source}.
+     */
+    FrozenAddressBook(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = freeze(source.getPersonList());
+        teams = freeze(source.getTeamList());
+        positions = freeze(source.getPositionList());
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Team> getTeamList() {
+        return teams;
+    }
+
+    @Override
+    public ObservableList<Position> getPositionList() {
+        return positions;
+    }
+
+    private static <T> ObservableList<T> freeze(List<T> list) {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(List.copyOf(list)));
+    }
+}
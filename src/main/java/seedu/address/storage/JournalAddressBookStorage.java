@@ -0,0 +1,412 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.position.Position;
+import seedu.address.model.position.exceptions.DuplicatePositionException;
+import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal on the hard disk.
+ * <p>
+ * The snapshot is kept at the data file path in the same format as {@link JsonAddressBookStorage}. Each save only
+ * appends the changes made since the previous save to a journal file next to it, one json record per line. Once the
+ * journal grows past a threshold, it is compacted: the full address book is written as a new snapshot and the
+ * journal starts over. Reading replays the journal on top of the snapshot.
+ * <p>
+ * The first record of a journal holds the checksum of the snapshot it applies to, so a journal left behind by a
+ * compaction that was interrupted after writing the new snapshot is recognised as stale and ignored. The records
+ * appended by one save form a batch whose last record is marked as its end, and only complete batches are replayed.
+ * Whatever a crash mid-append left after the last complete batch is skipped on reading and cut off before the next
+ * append. Every append is forced to the device before the save returns, so a power loss can only lose the batch
+ * that was being written.
+ * <p>
+ * Only the disk write is proportional to the size of the change. Working out what changed still compares the whole
+ * person list against a copy kept from the previous save, so each save also does work proportional to the roster;
+ * unchanged persons are usually the same instances and are compared by reference.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // What the files at lastFilePath hold, as of the last read or save
+    private Path lastFilePath;
+    private List<Person> lastPersons;
+    private List<Team> lastTeams;
+    private List<Position> lastPositions;
+    private int journalRecordCount;
+    // The length of the complete batches in the journal, or -1 if the next save must start a new journal
+    private long journalLength;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that compacts its journal once it holds more than
+     * {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps its snapshots through {@code snapshotStorage} and
+     * compacts its journal once it holds more than {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(JsonAddressBookStorage snapshotStorage, int compactionThreshold) {
+        this.filePath = snapshotStorage.getAddressBookFilePath();
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = snapshotStorage;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalPath = getJournalFilePath(filePath);
+        if (!FileUtil.isFileExists(journalPath)) {
+            snapshot.ifPresent(addressBook -> remember(filePath, addressBook, 0, -1));
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>();
+        List<Team> teams = new ArrayList<>();
+        List<Position> positions = new ArrayList<>();
+        snapshot.ifPresent(addressBook -> {
+            persons.addAll(addressBook.getPersonList());
+            teams.addAll(addressBook.getTeamList());
+            positions.addAll(addressBook.getPositionList());
+        });
+
+        Replay replay;
+        try {
+            replay = replayJournal(journalPath, checksumOf(filePath), persons, teams, positions);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        if (replay == null) {
+            snapshot.ifPresent(addressBook -> remember(filePath, addressBook, 0, -1));
+            return snapshot;
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = new AddressBook(persons, teams, positions);
+        } catch (DuplicatePersonException e) {
+            throw duplicateDataException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateTeamException e) {
+            throw duplicateDataException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_TEAM);
+        } catch (DuplicatePositionException e) {
+            throw duplicateDataException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_POSITION);
+        }
+        remember(filePath, addressBook, replay.recordCount, replay.committedLength);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<JsonAdaptedJournalRecord> records = filePath.equals(lastFilePath) && journalLength >= 0
+                ? recordChanges(addressBook)
+                : null;
+        if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+            long newJournalLength = compact(addressBook, filePath);
+            remember(filePath, addressBook, 0, newJournalLength);
+            return;
+        }
+
+        long newJournalLength = journalLength;
+        if (!records.isEmpty()) {
+            try {
+                newJournalLength = appendToJournal(getJournalFilePath(filePath), journalLength, records);
+            } catch (IOException e) {
+                // The journal may now end in part of a batch, so the next save starts over with a new snapshot
+                journalLength = -1;
+                throw e;
+            }
+        }
+        remember(filePath, addressBook, journalRecordCount + records.size(), newJournalLength);
+    }
+
+    /**
+     * Returns the records that turn the last read or saved data into {@code addressBook}.
+     * Persons are compared from both ends of the list, so a single add, edit or removal results in a single record.
+     */
+    private List<JsonAdaptedJournalRecord> recordChanges(ReadOnlyAddressBook addressBook) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!lastTeams.equals(addressBook.getTeamList())) {
+            records.add(JsonAdaptedJournalRecord.teams(addressBook.getTeamList()));
+        }
+        if (!lastPositions.equals(addressBook.getPositionList())) {
+            records.add(JsonAdaptedJournalRecord.positions(addressBook.getPositionList()));
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        int oldSize = lastPersons.size();
+        int newSize = persons.size();
+        int commonSize = Math.min(oldSize, newSize);
+
+        int prefix = 0;
+        while (prefix < commonSize && isUnchanged(lastPersons.get(prefix), persons.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < commonSize - prefix
+                && isUnchanged(lastPersons.get(oldSize - 1 - suffix), persons.get(newSize - 1 - suffix))) {
+            suffix++;
+        }
+
+        int oldChanged = oldSize - prefix - suffix;
+        int newChanged = newSize - prefix - suffix;
+        for (int i = 0; i < Math.min(oldChanged, newChanged); i++) {
+            records.add(JsonAdaptedJournalRecord.set(prefix + i, persons.get(prefix + i)));
+        }
+        for (int i = newChanged; i < oldChanged; i++) {
+            records.add(JsonAdaptedJournalRecord.remove(prefix + newChanged));
+        }
+        for (int i = oldChanged; i < newChanged; i++) {
+            records.add(JsonAdaptedJournalRecord.insert(prefix + i, persons.get(prefix + i)));
+        }
+        return records;
+    }
+
+    private static boolean isUnchanged(Person oldPerson, Person newPerson) {
+        // Persons are immutable, so an untouched person is usually the very same instance
+        return oldPerson == newPerson || oldPerson.equals(newPerson);
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot at {@code filePath} and starts a new journal for it.
+     *
+     * @return the length of the new journal.
+     */
+    private long compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        logger.fine("Compacting journal into snapshot: " + filePath);
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+
+        Path journalPath = getJournalFilePath(filePath);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.base(checksumOf(filePath)));
+        byte[] headerLine = (header + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+        if (snapshotStorage.isAtomicSave()) {
+            FileUtil.writeToFileAtomically(journalPath, out -> out.write(headerLine), 0);
+        } else {
+            Files.write(journalPath, headerLine);
+        }
+        return headerLine.length;
+    }
+
+    /**
+     * Appends {@code records} as one batch after the first {@code journalLength} bytes of the journal at
+     * {@code journalPath}, dropping anything after them, and forces the batch to the device before returning.
+     *
+     * @return the length of the journal with the batch appended.
+     */
+    private static long appendToJournal(Path journalPath, long journalLength, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder batch = new StringBuilder();
+        for (int i = 0; i < records.size(); i++) {
+            JsonAdaptedJournalRecord record = i == records.size() - 1 ? records.get(i).endingBatch() : records.get(i);
+            batch.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(batch.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(journalLength);
+            channel.position(journalLength);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+        return journalLength + bytes.limit();
+    }
+
+    /**
+     * Applies the complete batches of records in the journal at {@code journalPath} to the given lists.
+     *
+     * @return what was replayed, or null if the journal does not belong to the snapshot with checksum
+     *     {@code snapshotChecksum} and was ignored.
+     * @throws IllegalValueException if a complete batch holds an unreadable or invalid record.
+     */
+    private static Replay replayJournal(Path journalPath, long snapshotChecksum, List<Person> persons,
+                                        List<Team> teams, List<Position> positions)
+            throws IOException, IllegalValueException {
+        byte[] journal = Files.readAllBytes(journalPath);
+        List<JsonAdaptedJournalRecord> batch = new ArrayList<>();
+        String unreadableLine = null;
+        boolean isHeaderRead = false;
+        int recordCount = 0;
+        long committedLength = 0;
+
+        int lineStart = 0;
+        for (int lineEnd = 0; lineEnd < journal.length; lineEnd++) {
+            if (journal[lineEnd] != '\n') {
+                continue;
+            }
+            String line = new String(journal, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8).strip();
+            lineStart = lineEnd + 1;
+            JsonAdaptedJournalRecord record = parseRecord(line);
+
+            if (!isHeaderRead) {
+                if (record == null || record.getOp() != JsonAdaptedJournalRecord.Operation.BASE
+                        || record.getChecksum() == null || record.getChecksum() != snapshotChecksum) {
+                    break;
+                }
+                isHeaderRead = true;
+                committedLength = lineStart;
+                continue;
+            }
+
+            if (record == null) {
+                unreadableLine = unreadableLine == null ? line : unreadableLine;
+                continue;
+            }
+            batch.add(record);
+            if (!record.isBatchEnd()) {
+                continue;
+            }
+            if (unreadableLine != null) {
+                throw new IllegalValueException("Journal contains an unreadable record: " + unreadableLine);
+            }
+            for (JsonAdaptedJournalRecord batchRecord : batch) {
+                batchRecord.applyTo(persons, teams, positions);
+            }
+            recordCount += batch.size();
+            committedLength = lineStart;
+            batch.clear();
+        }
+
+        if (!isHeaderRead) {
+            logger.warning("Ignoring journal file " + journalPath + " as it does not match its snapshot.");
+            return null;
+        }
+        if (committedLength < journal.length) {
+            logger.warning("Ignoring incomplete last batch in journal file " + journalPath);
+        }
+        return new Replay(recordCount, committedLength);
+    }
+
+    private DataLoadingException duplicateDataException(String message) {
+        logger.info("Illegal values found after replaying journal of " + filePath + ": " + message);
+        return new DataLoadingException(new IllegalValueException(message));
+    }
+
+    /**
+     * Returns the record in {@code line}, or null if the line does not hold a complete record.
+     */
+    private static JsonAdaptedJournalRecord parseRecord(String line) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the CRC32 checksum of the file at {@code file}, or 0 if there is no such file.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        if (!FileUtil.isFileExists(file)) {
+            return 0;
+        }
+
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook, int journalRecordCount,
+                          long journalLength) {
+        lastFilePath = filePath;
+        lastPersons = new ArrayList<>(addressBook.getPersonList());
+        lastTeams = new ArrayList<>(addressBook.getTeamList());
+        lastPositions = new ArrayList<>(addressBook.getPositionList());
+        this.journalRecordCount = journalRecordCount;
+        this.journalLength = journalLength;
+    }
+
+    /**
+     * The outcome of replaying a journal.
+     */
+    private static class Replay {
+        private final int recordCount;
+        private final long committedLength;
+
+        Replay(int recordCount, long committedLength) {
+            this.recordCount = recordCount;
+            this.committedLength = committedLength;
+        }
+    }
+
+}
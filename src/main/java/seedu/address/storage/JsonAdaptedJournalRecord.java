@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of a {@link JournalAddressBookStorage}.
+ * The last record of the changes made by one save is marked as the end of its batch.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String INVALID_INDEX_MESSAGE = "Journal record refers to a person that does not exist.";
+
+    /**
+     * The kinds of changes that can be recorded.
+     */
+    enum Operation {
+        /** Identifies the snapshot that the records after it apply to. Always the first record. */
+        BASE,
+        /** Replaces the person at {@code index}. */
+        SET,
+        /** Inserts a person at {@code index}. */
+        INSERT,
+        /** Removes the person at {@code index}. */
+        REMOVE,
+        /** Replaces the whole team list. */
+        TEAMS,
+        /** Replaces the whole position list. */
+        POSITIONS
+    }
+
+    private final Operation op;
+    private final Long checksum;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final List<JsonAdaptedTeam> teams;
+    private final List<JsonAdaptedPosition> positions;
+    private final Boolean batchEnd;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") Operation op, @JsonProperty("checksum") Long checksum,
+                                    @JsonProperty("index") Integer index,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("teams") List<JsonAdaptedTeam> teams,
+                                    @JsonProperty("positions") List<JsonAdaptedPosition> positions,
+                                    @JsonProperty("batchEnd") Boolean batchEnd) {
+        this.op = op;
+        this.checksum = checksum;
+        this.index = index;
+        this.person = person;
+        this.teams = teams;
+        this.positions = positions;
+        this.batchEnd = batchEnd;
+    }
+
+    /**
+     * Returns the header record of a journal that applies to the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord base(long checksum) {
+        return new JsonAdaptedJournalRecord(Operation.BASE, checksum, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the person at {@code index} with {@code person}.
+     */
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.SET, null, index, new JsonAdaptedPerson(person), null, null,
+                null);
+    }
+
+    /**
+     * Returns a record that inserts {@code person} at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        return new JsonAdaptedJournalRecord(Operation.INSERT, null, index, new JsonAdaptedPerson(person), null, null,
+                null);
+    }
+
+    /**
+     * Returns a record that removes the person at {@code index}.
+     */
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE, null, index, null, null, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the team list with {@code teams}.
+     */
+    public static JsonAdaptedJournalRecord teams(List<Team> teams) {
+        List<JsonAdaptedTeam> adaptedTeams = new ArrayList<>();
+        teams.forEach(team -> adaptedTeams.add(new JsonAdaptedTeam(team)));
+        return new JsonAdaptedJournalRecord(Operation.TEAMS, null, null, null, adaptedTeams, null, null);
+    }
+
+    /**
+     * Returns a record that replaces the position list with {@code positions}.
+     */
+    public static JsonAdaptedJournalRecord positions(List<Position> positions) {
+        List<JsonAdaptedPosition> adaptedPositions = new ArrayList<>();
+        positions.forEach(position -> adaptedPositions.add(new JsonAdaptedPosition(position)));
+        return new JsonAdaptedJournalRecord(Operation.POSITIONS, null, null, null, null, adaptedPositions, null);
+    }
+
+    /**
+     * Returns a copy of this record that marks the end of a batch.
+     */
+    public JsonAdaptedJournalRecord endingBatch() {
+        return new JsonAdaptedJournalRecord(op, checksum, index, person, teams, positions, true);
+    }
+
+    public Operation getOp() {
+        return op;
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    public boolean isBatchEnd() {
+        return Boolean.TRUE.equals(batchEnd);
+    }
+
+    /**
+     * Applies the change described by this record to the given lists.
+     * A {@code BASE} record leaves the lists untouched.
+     *
+     * @throws IllegalValueException if the record is incomplete, refers to a missing person or holds invalid data.
+     */
+    public void applyTo(List<Person> personList, List<Team> teamList, List<Position> positionList)
+            throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "op"));
+        }
+
+        switch (op) {
+        case BASE:
+            break;
+        case SET:
+            personList.set(checkIndex(personList.size() - 1), requirePerson());
+            break;
+        case INSERT:
+            personList.add(checkIndex(personList.size()), requirePerson());
+            break;
+        case REMOVE:
+            personList.remove(checkIndex(personList.size() - 1));
+            break;
+        case TEAMS:
+            if (teams == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "teams"));
+            }
+            teamList.clear();
+            for (JsonAdaptedTeam team : teams) {
+                teamList.add(team.toModelType());
+            }
+            break;
+        case POSITIONS:
+            if (positions == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "positions"));
+            }
+            positionList.clear();
+            for (JsonAdaptedPosition position : positions) {
+                positionList.add(position.toModelType());
+            }
+            break;
+        default:
+            throw new AssertionError("Unhandled journal operation " + op);
+        }
+    }
+
+    private int checkIndex(int maxIndex) throws IllegalValueException {
+        if (index == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "index"));
+        }
+        if (index < 0 || index > maxIndex) {
+            throw new IllegalValueException(INVALID_INDEX_MESSAGE);
+        }
+        return index;
+    }
+
+    private Person requirePerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+}
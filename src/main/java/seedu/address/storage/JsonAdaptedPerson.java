@@ -166,7 +166,7 @@ class JsonAdaptedPerson {
         }
         final Team modelTeam = team.toModelType();
 
-        final Position modelPosition = (position == null) ? new Position("NONE") : position.toModelType();
+        final Position modelPosition = (position == null) ? Position.DEFAULT_POSITION : position.toModelType();
 
         final Set<Injury> modelInjuries = new HashSet<>(personInjuries);
         final Set<Tag> modelTags = new HashSet<>(personTags);
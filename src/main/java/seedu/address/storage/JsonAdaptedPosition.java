@@ -38,7 +38,7 @@ public class JsonAdaptedPosition {
         if (!Position.isValidPositionName(name)) {
             throw new IllegalValueException(Position.MESSAGE_CONSTRAINTS);
         }
-        return new Position(name);
+        return Position.of(name);
     }
 }
 
@@ -41,6 +41,6 @@ public class JsonAdaptedTeam {
         if (!Team.isValidTeamName(name)) {
             throw new IllegalValueException(Team.MESSAGE_CONSTRAINTS);
         }
-        return new Team(name);
+        return Team.of(name);
     }
 }
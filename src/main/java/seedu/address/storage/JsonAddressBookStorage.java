@@ -7,6 +7,9 @@ import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,21 +19,48 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written in a streaming fashion, one person at a time, so memory use does not depend on
+ * the size of the file.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isAtomicSave;
+    private final int backupCount;
 
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves atomically without keeping backups.
+     */
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true, 0);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}.
+     * If {@code isAtomicSave} is true, each save replaces the file atomically and keeps up to {@code backupCount}
+     * previous versions of it, as described in {@link FileUtil#writeToFileAtomically}.
+     * Otherwise, the file is overwritten in place and no backups are kept.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isAtomicSave, int backupCount) {
         this.filePath = filePath;
+        this.isAtomicSave = isAtomicSave;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
         return filePath;
     }
 
+    public boolean isAtomicSave() {
+        return isAtomicSave;
+    }
+
+    public int getBackupCount() {
+        return backupCount;
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return readAddressBook(filePath);
@@ -38,6 +68,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * A file in the format of {@link BinaryAddressBookStorage} is read as such.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataLoadingException if loading the data from storage failed.
@@ -45,14 +76,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!FileUtil.isFileExists(filePath)) {
             return Optional.empty();
         }
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info("Data file " + filePath + " is in the binary format, reading it as such.");
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createJsonFileParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readAddressBook(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +110,16 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.ContentWriter writer = out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+                JsonSerializableAddressBook.writeAddressBook(addressBook, generator);
+            }
+        };
+        if (isAtomicSave) {
+            FileUtil.writeToFileAtomically(filePath, writer, backupCount);
+        } else {
+            FileUtil.writeToFile(filePath, writer);
+        }
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,13 +8,20 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.position.Position;
+import seedu.address.model.position.exceptions.DuplicatePositionException;
 import seedu.address.model.team.Team;
+import seedu.address.model.team.exceptions.DuplicateTeamException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -24,6 +32,13 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_TEAM = "Teams list contains duplicate team(s).";
     public static final String MESSAGE_DUPLICATE_POSITION = "Positions list contains duplicate position(s).";
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Address book data must be a JSON object.";
+    public static final String MISSING_LIST_MESSAGE_FORMAT = "Address book's %s list is missing!";
+    public static final String INVALID_LIST_MESSAGE_FORMAT = "Address book's %s field must be a list.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TEAMS_FIELD = "teams";
+    private static final String POSITIONS_FIELD = "positions";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -37,7 +52,8 @@ class JsonSerializableAddressBook {
     public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("teams") List<JsonAdaptedTeam> teams,
                                        @JsonProperty("positions") List<JsonAdaptedPosition> positions) {
-        // Persons and teams must be present (legacy behavior relied upon by tests)
+        // A file without a persons or teams list is rejected; positions may be absent in files saved before
+        // positions were stored, and are then read as an empty list
         this.persons.addAll(persons);
         this.teams.addAll(teams);
         if (positions != null) {
@@ -62,30 +78,142 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(jsonAdaptedPerson.toModelType());
         }
-
+        List<Team> modelTeams = new ArrayList<>(teams.size());
         for (JsonAdaptedTeam jsonAdaptedTeam : teams) {
-            Team team = jsonAdaptedTeam.toModelType();
-            if (addressBook.hasTeam(team)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
-            }
-            addressBook.addTeam(team);
+            modelTeams.add(jsonAdaptedTeam.toModelType());
         }
+        List<Position> modelPositions = new ArrayList<>(positions.size());
         for (JsonAdaptedPosition jsonAdaptedPosition : positions) {
-            Position position = jsonAdaptedPosition.toModelType();
-            if (addressBook.hasPosition(position)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
+            modelPositions.add(jsonAdaptedPosition.toModelType());
+        }
+        return toAddressBook(modelPersons, modelTeams, modelPositions);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same layout as this class, one record at a time.
+     * Unlike serializing a {@code JsonSerializableAddressBook}, this never holds more than one adapted record
+     * in memory.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(TEAMS_FIELD);
+        for (Team team : source.getTeamList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedTeam(team));
+        }
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart(POSITIONS_FIELD);
+        for (Position position : source.getPositionList()) {
+            JsonUtil.writeValue(generator, new JsonAdaptedPosition(position));
+        }
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book in the layout of this class from {@code parser}.
+     * Each record is converted into its model type as soon as it is read, so the adapted records are never
+     * held in memory all at once.
+     *
+     * @throws IOException if the data is not well-formed JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        List<Person> modelPersons = null;
+        List<Team> modelTeams = null;
+        List<Position> modelPositions = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            switch (fieldName) {
+            case PERSONS_FIELD:
+                modelPersons = readList(parser, PERSONS_FIELD, JsonAdaptedPerson.class, JsonAdaptedPerson::toModelType);
+                break;
+            case TEAMS_FIELD:
+                modelTeams = readList(parser, TEAMS_FIELD, JsonAdaptedTeam.class, JsonAdaptedTeam::toModelType);
+                break;
+            case POSITIONS_FIELD:
+                List<Position> readPositions = readList(parser, POSITIONS_FIELD, JsonAdaptedPosition.class,
+                        JsonAdaptedPosition::toModelType);
+                modelPositions = readPositions == null ? new ArrayList<>() : readPositions;
+                break;
+            default:
+                // Unknown fields are ignored, as when reading a JsonSerializableAddressBook
+                parser.skipChildren();
+                break;
             }
-            addressBook.addPosition(position);
         }
-        return addressBook;
+
+        // A file without a persons or teams list is rejected; positions may be absent in files saved before
+        // positions were stored, and are then read as an empty list
+        if (modelPersons == null) {
+            throw new IllegalValueException(String.format(MISSING_LIST_MESSAGE_FORMAT, PERSONS_FIELD));
+        }
+        if (modelTeams == null) {
+            throw new IllegalValueException(String.format(MISSING_LIST_MESSAGE_FORMAT, TEAMS_FIELD));
+        }
+        return toAddressBook(modelPersons, modelTeams, modelPositions);
+    }
+
+    /**
+     * Reads the JSON array at the current token of {@code parser}, converting each element with {@code converter}.
+     * Returns null if the value is a JSON null.
+     */
+    private static <T, R> List<R> readList(JsonParser parser, String fieldName, Class<T> adaptedClass,
+                                           ModelConverter<T, R> converter)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalValueException(String.format(INVALID_LIST_MESSAGE_FORMAT, fieldName));
+        }
+
+        List<R> modelObjects = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            modelObjects.add(converter.toModelType(JsonUtil.readValue(parser, adaptedClass)));
+        }
+        return modelObjects;
+    }
+
+    /**
+     * Builds an {@code AddressBook} from the given lists, reporting duplicates as {@code IllegalValueException}s.
+     */
+    private static AddressBook toAddressBook(List<Person> modelPersons, List<Team> modelTeams,
+                                             List<Position> modelPositions) throws IllegalValueException {
+        try {
+            return new AddressBook(modelPersons, modelTeams, modelPositions);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        } catch (DuplicateTeamException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TEAM);
+        } catch (DuplicatePositionException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POSITION);
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly adapted object into its model type.
+     */
+    @FunctionalInterface
+    private interface ModelConverter<T, R> {
+        R toModelType(T adapted) throws IllegalValueException;
     }
 
 }
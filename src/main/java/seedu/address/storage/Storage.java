@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,16 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Blocks until every address book save requested so far has been written.
+     * @throws IOException if any of those writes failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Sets the handler that is given each address book save that fails after {@code saveAddressBook} has returned,
+     * as happens when saving in the background. The handler may be called on another thread.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
 }
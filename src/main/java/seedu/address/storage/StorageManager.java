@@ -1,8 +1,16 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +21,12 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * <p>
+ * In write-behind mode, {@link #saveAddressBook(ReadOnlyAddressBook, Path)} only takes a snapshot of the data and
+ * hands it to a single background writer thread. Snapshots that pile up while the writer is busy are coalesced so
+ * that only the latest one for each file is written. A failed background write is passed to the handler set by
+ * {@link #setSaveFailureHandler(Consumer)} as soon as it happens, and is also reported by {@link #flush()} unless a
+ * later write succeeded.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +34,31 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    // Only used in write-behind mode
+    private final ExecutorService addressBookWriter;
+    private final ConcurrentHashMap<Path, ReadOnlyAddressBook> pendingSnapshots = new ConcurrentHashMap<>();
+    private final AtomicReference<IOException> writeFailure = new AtomicReference<>();
+    private volatile Consumer<IOException> saveFailureHandler = failure -> { };
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Address book data is saved synchronously.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * If {@code isWriteBehind} is true, address book data is saved on a background thread.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookWriter = isWriteBehind
+                ? Executors.newSingleThreadExecutor(StorageManager::newWriterThread)
+                : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -71,8 +104,79 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (addressBookWriter == null) {
+            logger.fine("Attempting to write to data file: " + filePath);
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        ReadOnlyAddressBook snapshot = new FrozenAddressBook(addressBook);
+        if (pendingSnapshots.put(filePath, snapshot) == null) {
+            addressBookWriter.execute(() -> writePendingSnapshot(filePath));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (addressBookWriter == null) {
+            return;
+        }
+
+        try {
+            // The writer runs tasks in order, so this returns only after every earlier snapshot is written
+            addressBookWriter.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwWriteFailureIfAny();
+    }
+
+    /**
+     * Writes the latest snapshot queued for {@code filePath}, if it has not been written by an earlier task.
+     * Runs on the background writer thread.
+     */
+    private void writePendingSnapshot(Path filePath) {
+        ReadOnlyAddressBook snapshot = pendingSnapshots.remove(filePath);
+        if (snapshot == null) {
+            return;
+        }
+
+        logger.fine("Attempting to write to data file in the background: " + filePath);
+        try {
+            addressBookStorage.saveAddressBook(snapshot, filePath);
+            // The file now holds the latest state, so an earlier failure no longer loses any data
+            writeFailure.set(null);
+        } catch (IOException e) {
+            logger.warning("Background save to " + filePath + " failed: " + e);
+            writeFailure.set(e);
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Rethrows the most recent background write failure, if any, and clears it.
+     */
+    private void throwWriteFailureIfAny() throws IOException {
+        IOException failure = writeFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static Thread newWriterThread(Runnable task) {
+        Thread thread = new Thread(task, "address-book-writer");
+        // Pending writes are flushed explicitly on exit, so the writer must not keep the JVM alive on its own
+        thread.setDaemon(true);
+        return thread;
     }
 
 }
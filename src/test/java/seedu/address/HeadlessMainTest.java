@@ -0,0 +1,95 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddTeamCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.StorageManagerStub;
+
+public class HeadlessMainTest {
+
+    private final ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errBytes = new ByteArrayOutputStream();
+    private final PrintStream out = new PrintStream(outBytes, true, StandardCharsets.UTF_8);
+    private final PrintStream err = new PrintStream(errBytes, true, StandardCharsets.UTF_8);
+
+    @Test
+    public void runCommands_validCommands_printsFeedbackOfEach() throws IOException {
+        Model model = new ModelManager();
+        Logic logic = new LogicManager(model, new StorageManagerStub());
+
+        int exitStatus = HeadlessMain.runCommands(logic, input("# nightly", "addteam tm/U12", "", "addteam tm/U16"),
+                out, err);
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, exitStatus);
+        assertEquals(lines(String.format(AddTeamCommand.MESSAGE_SUCCESS, Messages.format(new Team("U12"))),
+                String.format(AddTeamCommand.MESSAGE_SUCCESS, Messages.format(new Team("U16")))),
+                outBytes.toString(StandardCharsets.UTF_8));
+        assertEquals("", errBytes.toString(StandardCharsets.UTF_8));
+        assertTrue(model.hasTeam(new Team("U16")));
+    }
+
+    @Test
+    public void runCommands_failingCommand_continuesAndReportsFailure() throws IOException {
+        Model model = new ModelManager();
+        Logic logic = new LogicManager(model, new StorageManagerStub());
+
+        int exitStatus = HeadlessMain.runCommands(logic, input("unknowncommand", "addteam tm/U12"), out, err);
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, exitStatus);
+        assertEquals(lines(String.format(HeadlessMain.MESSAGE_COMMAND_FAILED, MESSAGE_UNKNOWN_COMMAND)),
+                errBytes.toString(StandardCharsets.UTF_8));
+        assertTrue(model.hasTeam(new Team("U12")));
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() throws IOException {
+        Model model = new ModelManager();
+        Logic logic = new LogicManager(model, new StorageManagerStub());
+
+        int exitStatus = HeadlessMain.runCommands(logic, input(ExitCommand.COMMAND_WORD, "addteam tm/U12"), out, err);
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, exitStatus);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), outBytes.toString(StandardCharsets.UTF_8));
+        assertEquals(new ModelManager(), model);
+    }
+
+    @Test
+    public void run_tooManyArguments_printsUsage() {
+        int exitStatus = HeadlessMain.run(new String[] {"first.txt", "second.txt"},
+                new ByteArrayInputStream(new byte[0]), out, err);
+
+        assertEquals(HeadlessMain.EXIT_USAGE_ERROR, exitStatus);
+        assertEquals(lines(HeadlessMain.MESSAGE_USAGE), errBytes.toString(StandardCharsets.UTF_8));
+    }
+
+    private static BufferedReader input(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    private static String lines(String... lines) {
+        StringBuilder text = new StringBuilder();
+        for (String line : lines) {
+            text.append(line).append(System.lineSeparator());
+        }
+        return text.toString();
+    }
+}
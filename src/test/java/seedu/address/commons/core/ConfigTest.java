@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveInBackground=" + config.isSaveInBackground()
+                + ", saveAtomically=" + config.isSaveAtomically()
+                + ", dataFileBackupCount=" + config.getDataFileBackupCount()
+                + ", undoHistoryDepth=" + config.getUndoHistoryDepth() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -0,0 +1,72 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class CompactSetTest {
+
+    @Test
+    public void copyOf_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(null));
+        assertThrows(NullPointerException.class, () -> CompactSet.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void copyOf_duplicates_keepsDistinctElements() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("b", "a", "b", "c", "a"));
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), set);
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")).hashCode(), set.hashCode());
+        assertEquals(3, set.size());
+    }
+
+    @Test
+    public void copyOf_compactSet_returnsSameInstance() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("a", "b"));
+        assertSame(set, CompactSet.copyOf(set));
+        assertSame(CompactSet.copyOf(Collections.emptySet()), CompactSet.copyOf(Collections.emptyList()));
+    }
+
+    @Test
+    public void contains_collidingHashCodes_findsEveryElement() {
+        // "Aa" and "BB" share a hash code, as do "AaAa", "AaBB" and "BBAa"
+        List<String> values = Arrays.asList("AaAa", "x", "BB", "AaBB", "Aa", "BBAa");
+        Set<String> set = CompactSet.copyOf(values);
+        assertEquals(values.size(), set.size());
+        for (String value : values) {
+            assertTrue(set.contains(value));
+        }
+        assertFalse(set.contains("BBBB"));
+        assertFalse(set.contains(null));
+        assertFalse(set.contains(1));
+    }
+
+    @Test
+    public void equals() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("a", "b"));
+        assertTrue(set.equals(CompactSet.copyOf(Arrays.asList("b", "a"))));
+        assertTrue(set.equals(new HashSet<>(Arrays.asList("a", "b"))));
+        assertFalse(set.equals(CompactSet.copyOf(Arrays.asList("a", "c"))));
+        assertFalse(set.equals(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        Set<String> set = CompactSet.copyOf(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("z"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(value -> false));
+        assertThrows(UnsupportedOperationException.class, () -> set.clear());
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+}
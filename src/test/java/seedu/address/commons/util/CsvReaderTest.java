@@ -0,0 +1,70 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_emptyInput_returnsNull() throws IOException {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_splitsOnCommas() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\nd\n"));
+        assertEquals(Arrays.asList("a", "b", "", "c"), reader.readRecord());
+        assertEquals(Collections.singletonList("d"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_lastRecordWithoutLineBreak_isRead() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b"));
+        assertEquals(Arrays.asList("a", "b"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_crlfLineBreaks_areRecordSeparators() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b\r\nc,d\r\n"));
+        assertEquals(Arrays.asList("a", "b"), reader.readRecord());
+        assertEquals(Arrays.asList("c", "d"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"1, Main St\",\"say \"\"hi\"\"\",\"two\r\nlines\"\nx\n"));
+        assertEquals(Arrays.asList("1, Main St", "say \"hi\"", "two\r\nlines"), reader.readRecord());
+        assertEquals(Collections.singletonList("x"), reader.readRecord());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_emptyLine_returnsSingleEmptyField() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a\n\nb\n"));
+        assertEquals(Collections.singletonList("a"), reader.readRecord());
+        assertEquals(Collections.singletonList(""), reader.readRecord());
+        assertEquals(Collections.singletonList("b"), reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_leadingByteOrderMark_isSkipped() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("﻿name,team\n"));
+        assertEquals(Arrays.asList("name", "team"), reader.readRecord());
+    }
+}
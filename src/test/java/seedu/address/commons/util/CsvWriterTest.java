@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    private final StringWriter output = new StringWriter();
+    private final CsvWriter writer = new CsvWriter(output);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeField_plainFields_writesUnquotedRecords() throws IOException {
+        writer.writeField("a");
+        writer.writeField("");
+        writer.writeField("b c");
+        writer.endRecord();
+        writer.writeField("d");
+        writer.endRecord();
+        assertEquals("a,,b c\r\nd\r\n", output.toString());
+    }
+
+    @Test
+    public void writeField_specialCharacters_writesQuotedFields() throws IOException {
+        writer.writeField("1, Main St");
+        writer.writeField("say \"hi\"");
+        writer.writeField("two\nlines");
+        writer.endRecord();
+        assertEquals("\"1, Main St\",\"say \"\"hi\"\"\",\"two\nlines\"\r\n", output.toString());
+    }
+
+    @Test
+    public void writeField_values_writesSeparatedValues() throws IOException {
+        writer.writeField(Arrays.asList("x", "y"), Function.identity(), ';');
+        writer.writeField(Collections.<String>emptyList(), Function.identity(), ';');
+        writer.writeField(Arrays.asList("a,b", "c\""), Function.identity(), ';');
+        writer.endRecord();
+        assertEquals("x;y,,\"a,b;c\"\"\"\r\n", output.toString());
+    }
+
+    @Test
+    public void writeField_writtenRecords_areReadBackByCsvReader() throws IOException {
+        writer.writeField("\"quoted\", and\r\nmore");
+        writer.writeField("plain");
+        writer.endRecord();
+
+        CsvReader reader = new CsvReader(new StringReader(output.toString()));
+        assertEquals(Arrays.asList("\"quoted\", and\r\nmore", "plain"), reader.readRecord());
+        assertEquals(null, reader.readRecord());
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentIntMapTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentIntMap.of(null));
+        assertThrows(NullPointerException.class, () -> PersistentIntMap.of(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void of_emptyList_returnsEmptyMap() {
+        assertSame(PersistentIntMap.empty(), PersistentIntMap.of(new ArrayList<>()));
+        assertTrue(PersistentIntMap.empty().isEmpty());
+    }
+
+    @Test
+    public void of_manyValues_mapsEachIndexToItsValue() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            values.add(i * 3);
+        }
+        PersistentIntMap<Integer> map = PersistentIntMap.of(values);
+        assertEquals(2000, map.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(Integer.valueOf(i * 3), map.get(i));
+        }
+        assertNull(map.get(2000));
+        assertNull(map.get(-1));
+        assertEquals(values, values(map));
+    }
+
+    @Test
+    public void with_negativeKey_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> PersistentIntMap.empty().with(-1, "a"));
+    }
+
+    @Test
+    public void with_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentIntMap.empty().with(0, null));
+    }
+
+    @Test
+    public void withAndWithout_leaveEarlierVersionsUnchanged() {
+        PersistentIntMap<String> original = PersistentIntMap.of(Arrays.asList("a", "b", "c"));
+        PersistentIntMap<String> replaced = original.with(1, "B");
+        PersistentIntMap<String> grown = replaced.with(40_000, "far");
+        PersistentIntMap<String> shrunk = grown.without(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), values(original));
+        assertEquals(Arrays.asList("a", "B", "c"), values(replaced));
+        assertEquals(Arrays.asList("a", "B", "c", "far"), values(grown));
+        assertEquals(Arrays.asList("B", "c", "far"), values(shrunk));
+        assertEquals(3, original.size());
+        assertEquals(3, replaced.size());
+        assertEquals(4, grown.size());
+        assertEquals(3, shrunk.size());
+    }
+
+    @Test
+    public void without_absentKey_returnsSameMap() {
+        PersistentIntMap<String> map = PersistentIntMap.of(Arrays.asList("a", "b"));
+        assertSame(map, map.without(5));
+        assertSame(map, map.without(-1));
+    }
+
+    @Test
+    public void without_lastKey_returnsEmptyMap() {
+        assertSame(PersistentIntMap.empty(), PersistentIntMap.empty().with(100, "a").without(100));
+    }
+
+    @Test
+    public void randomChanges_matchTreeMap() {
+        TreeMap<Integer, Integer> expected = new TreeMap<>();
+        PersistentIntMap<Integer> map = PersistentIntMap.empty();
+        int seed = 7;
+        for (int i = 0; i < 5000; i++) {
+            seed = seed * 1103515245 + 12345;
+            int key = (seed >>> 8) % 3000;
+            if (seed % 3 == 0) {
+                expected.remove(key);
+                map = map.without(key);
+            } else {
+                expected.put(key, i);
+                map = map.with(key, i);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        TreeMap<Integer, Integer> actual = new TreeMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+
+    private static <V> List<V> values(PersistentIntMap<V> map) {
+        List<V> values = new ArrayList<>();
+        map.forEach((key, value) -> values.add(value));
+        return values;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -69,6 +70,8 @@ public class StringUtilTest {
     public void containsWordIgnoreCase_multipleWords_throwsIllegalArgumentException() {
         assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
             -> StringUtil.containsWordIgnoreCase("typical sentence", "aaa BBB"));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.containsWordIgnoreCase("typical sentence", " aaa\tBBB "));
     }
 
     @Test
@@ -121,6 +124,37 @@ public class StringUtilTest {
 
         // Matches multiple words in sentence
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
+
+        // Words separated by other whitespace characters
+        assertTrue(StringUtil.containsWordIgnoreCase("aaa\tbBb\r\nccc", "BBB"));
+        assertFalse(StringUtil.containsWordIgnoreCase("aaa\u001Fbbb ccc", "bbb")); // Not a whitespace character
+    }
+
+    //---------------- Tests for editDistanceIgnoreCase --------------------------------------
+
+    @Test
+    public void editDistanceIgnoreCase_negativeMaxDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Maximum distance cannot be negative", ()
+            -> StringUtil.editDistanceIgnoreCase("abc", "abc", -1));
+    }
+
+    @Test
+    public void editDistanceIgnoreCase_validInputs_correctResult() {
+        // Equal ignoring case
+        assertEquals(0, StringUtil.editDistanceIgnoreCase("", "", 0));
+        assertEquals(0, StringUtil.editDistanceIgnoreCase("MeYer", "meyer", 0));
+
+        // Substitution, insertion, deletion and transposition
+        assertEquals(1, StringUtil.editDistanceIgnoreCase("meier", "meyer", 2));
+        assertEquals(1, StringUtil.editDistanceIgnoreCase("mueller", "muller", 2));
+        assertEquals(1, StringUtil.editDistanceIgnoreCase("kunz", "kunzz", 2));
+        assertEquals(2, StringUtil.editDistanceIgnoreCase("jonh", "john", 2));
+        assertEquals(3, StringUtil.editDistanceIgnoreCase("kitten", "sitting", 3));
+
+        // More than maxDistance apart
+        assertEquals(3, StringUtil.editDistanceIgnoreCase("alex", "alexander", 2));
+        assertEquals(1, StringUtil.editDistanceIgnoreCase("abc", "xyz", 0));
+        assertEquals(2, StringUtil.editDistanceIgnoreCase("abcdef", "azcdxf", 1));
     }
 
     //---------------- Tests for getDetails --------------------------------------
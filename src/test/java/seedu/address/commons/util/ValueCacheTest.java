@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class ValueCacheTest {
+
+    @Test
+    public void constructor_negativeCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ValueCache<>(-1, String::new));
+    }
+
+    @Test
+    public void constructor_nullFactory_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ValueCache<>(1, null));
+    }
+
+    @Test
+    public void get_sameKey_returnsSameInstance() {
+        ValueCache<String> cache = new ValueCache<>(2, String::new);
+        String value = cache.get("alice");
+        assertEquals("alice", value);
+        assertSame(value, cache.get("alice"));
+        assertNotSame(value, cache.get("bob"));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_cacheFull_createsValuesWithoutCachingThem() {
+        ValueCache<String> cache = new ValueCache<>(1, String::new);
+        cache.get("alice");
+        String value = cache.get("bob");
+        assertEquals("bob", value);
+        assertNotSame(value, cache.get("bob"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_factoryThrows_nothingCached() {
+        ValueCache<String> cache = new ValueCache<>(1, key -> {
+            throw new IllegalArgumentException(key);
+        });
+        assertThrows(IllegalArgumentException.class, () -> cache.get("alice"));
+        assertEquals(0, cache.size());
+    }
+}
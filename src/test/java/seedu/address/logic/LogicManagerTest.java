@@ -10,14 +10,19 @@ import static seedu.address.testutil.TypicalTeams.U12;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddTeamCommand;
+import seedu.address.logic.commands.BatchCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -82,6 +87,53 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw DUMMY_IO_EXCEPTION;
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        assertCommandSuccess(HelpCommand.COMMAND_WORD, HelpCommand.SHOWING_HELP_MESSAGE, model);
+    }
+
+    @Test
+    public void executeScript_validScript_savesOnce() throws Exception {
+        int[] saveCount = new int[1];
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
+                temporaryFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount[0]++;
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList("addteam tm/U12", "addteam tm/U16", "addposition ps/LW"));
+
+        CommandResult result = logic.executeScript(scriptFile);
+        assertEquals(String.format(BatchCommand.MESSAGE_SUCCESS, 3, scriptFile), result.getFeedbackToUser());
+        assertEquals(1, saveCount[0]);
+        assertEquals(2, model.getAddressBook().getTeamList().size());
+    }
+
+    @Test
+    public void executeScript_failingCommand_keepsNoChanges() throws Exception {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList("addteam tm/U12", "delete pl/Non Existent Person"));
+
+        assertThrows(CommandException.class, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                String.format(MESSAGE_PERSON_NOT_FOUND, "Non Existent Person")), () -> logic.executeScript(scriptFile));
+        assertEquals(new ModelManager(), model);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -162,6 +214,57 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    @Test
+    public void setSaveFailureHandler_backgroundSaveFails_handlerGivenErrorMessage() throws Exception {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        throw DUMMY_AD_EXCEPTION;
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        logic = new LogicManager(model, storage);
+        List<String> messages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(messages::add);
+
+        // The command succeeds, as the save only fails once it runs in the background
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(List.of(String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT,
+                DUMMY_AD_EXCEPTION.getMessage())), messages);
+    }
+
+    @Test
+    public void execute_afterBackgroundSaveFailed_savesAgain() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (saveCount.incrementAndGet() == 1) {
+                            throw DUMMY_IO_EXCEPTION;
+                        }
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")), true);
+        logic = new LogicManager(model, storage);
+
+        logic.execute(AddTeamCommand.COMMAND_WORD + TEAM_NAME_DESC_12);
+        assertThrows(IOException.class, storage::flush);
+
+        // A command that changes nothing still retries the failed save
+        logic.execute(HelpCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(2, saveCount.get());
+        logic.execute(HelpCommand.COMMAND_WORD);
+        storage.flush();
+        assertEquals(2, saveCount.get());
+    }
+
     /**
      * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
      *
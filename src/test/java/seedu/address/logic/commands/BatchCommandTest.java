@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSON_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.team.Team;
+
+public class BatchCommandTest {
+
+    private static final Path SCRIPT_FILE = Paths.get("script.txt");
+    private static final Team U21 = new Team("U21");
+
+    @Test
+    public void execute_allCommandsSucceed_appliesAllChanges() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_FILE,
+                Arrays.asList(new AddTeamCommand(U21), new AssignCaptainCommand(ALICE.getName())),
+                Arrays.asList(1, 2));
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addTeam(U21);
+        expectedModel.assignCaptain(ALICE);
+
+        assertCommandSuccess(batchCommand, model,
+                CommandResult.showPersonCommandResult(String.format(BatchCommand.MESSAGE_SUCCESS, 2, SCRIPT_FILE)),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_allCommandsSucceed_isUndoneAsOneChange() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new BatchCommand(SCRIPT_FILE,
+                Arrays.asList(new AddTeamCommand(U21), new AssignCaptainCommand(ALICE.getName())),
+                Arrays.asList(1, 2)).execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertFalse(model.hasTeam(U21));
+        assertFalse(model.getPersonByName(ALICE.getName()).isCaptain());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_readOnlyCommands_versionUnchanged() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        long version = model.getAddressBookVersion();
+        new BatchCommand(SCRIPT_FILE, Arrays.asList(new ListCommand(), new ListCommand()), Arrays.asList(1, 2))
+                .execute(model);
+
+        assertEquals(version, model.getAddressBookVersion());
+    }
+
+    @Test
+    public void execute_commandFails_leavesModelUnchanged() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Name missingName = new Name("Nobody Here");
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_FILE,
+                Arrays.asList(new AddTeamCommand(U21), new AssignCaptainCommand(missingName)),
+                Arrays.asList(3, 7));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 7,
+                String.format(MESSAGE_PERSON_NOT_FOUND, missingName)));
+        assertFalse(model.hasTeam(U21));
+    }
+
+    @Test
+    public void equals() {
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_FILE,
+                Collections.singletonList(new AddTeamCommand(U21)), Collections.singletonList(1));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(SCRIPT_FILE,
+                Collections.singletonList(new AddTeamCommand(U21)), Collections.singletonList(1))));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different line numbers -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(SCRIPT_FILE,
+                Collections.singletonList(new AddTeamCommand(U21)), Collections.singletonList(2))));
+
+        // different script file -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Paths.get("other.txt"),
+                Collections.singletonList(new AddTeamCommand(U21)), Collections.singletonList(1))));
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_TEAM;
+import static seedu.address.logic.commands.CommandTestUtil.NON_EXISTENT_TEAM;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTeams.U12;
+import static seedu.address.testutil.TypicalTeams.U16;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.Person;
+import seedu.address.model.position.FilterByPositionPredicate;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.FilterByTeamPredicate;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.ModelStub;
+
+public class ExportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,team,position,injuries,tags,captain";
+    private static final String ELLE_CSV_ROW = "Elle Meyer,9482224,werner@example.com,michegan ave,U16,NONE,"
+            + "Ankle sprain,,false";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ExportCommand(null, ExportCommand.Format.CSV,
+                Optional.empty()));
+        assertThrows(NullPointerException.class, () -> new ExportCommand(Paths.get("players.csv"), null,
+                Optional.empty()));
+    }
+
+    @Test
+    public void execute_noFilter_exportsDisplayedList() throws IOException {
+        Path file = temporaryFolder.resolve("players.csv");
+        model.updateFilteredPersonList(ELLE::equals);
+        expectedModel.updateFilteredPersonList(ELLE::equals);
+
+        assertCommandSuccess(new ExportCommand(file, ExportCommand.Format.CSV, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), expectedModel);
+        assertEquals(Arrays.asList(CSV_HEADER, ELLE_CSV_ROW), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_filter_exportsMatchingPlayersWithoutChangingDisplayedList() throws IOException {
+        Path file = temporaryFolder.resolve("physio.csv");
+        model.updateFilteredPersonList(person -> false);
+        expectedModel.updateFilteredPersonList(person -> false);
+        FilterCommand filter = new FilterCommand(new FilterByTeamPredicate(U16.getName()),
+                new FilterByInjuryPredicate("Ankle sprain"), FilterByPositionPredicate.ALWAYS_TRUE,
+                Optional.of(U16.getName()), Optional.of("Ankle sprain"), Optional.empty());
+
+        assertCommandSuccess(new ExportCommand(file, ExportCommand.Format.CSV, Optional.of(filter)), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), expectedModel);
+        assertEquals(Arrays.asList(CSV_HEADER, ELLE_CSV_ROW), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_filterWithUnknownTeam_throwsCommandException() {
+        Path file = temporaryFolder.resolve("physio.csv");
+        FilterCommand filter = new FilterCommand(new FilterByTeamPredicate(NON_EXISTENT_TEAM),
+                FilterByInjuryPredicate.ALWAYS_TRUE, FilterByPositionPredicate.ALWAYS_TRUE,
+                Optional.of(NON_EXISTENT_TEAM), Optional.empty(), Optional.empty());
+
+        assertCommandFailure(new ExportCommand(file, ExportCommand.Format.CSV, Optional.of(filter)), model,
+                String.format(MESSAGE_INVALID_TEAM, NON_EXISTENT_TEAM));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_jsonLines_writesOneObjectPerLine() throws IOException {
+        Path file = temporaryFolder.resolve("players.jsonl");
+        model.updateFilteredPersonList(ELLE::equals);
+        expectedModel.updateFilteredPersonList(ELLE::equals);
+
+        assertCommandSuccess(new ExportCommand(file, ExportCommand.Format.JSON_LINES, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_SUCCESS, 1, file), expectedModel);
+        assertEquals(Arrays.asList("{\"name\":\"Elle Meyer\",\"phone\":\"9482224\",\"email\":\"werner@example.com\","
+                + "\"address\":\"michegan ave\",\"team\":\"U16\",\"position\":\"NONE\",\"injuries\":[\"Ankle sprain\"],"
+                + "\"tags\":[],\"captain\":false}"), Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_jsonLinesOfAllPlayers_writesEveryPlayer() throws IOException, CommandException {
+        Path file = temporaryFolder.resolve("players.jsonl");
+        new ExportCommand(file, ExportCommand.Format.JSON_LINES, Optional.empty()).execute(model);
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(model.getFilteredPersonList().size(), lines.size());
+        assertTrue(lines.get(0).startsWith("{\"name\":\"Alice Pauline\""));
+    }
+
+    @Test
+    public void execute_exportedCsv_isImportedBackUnchanged() throws CommandException {
+        Path file = temporaryFolder.resolve("players.csv");
+        new ExportCommand(file, ExportCommand.Format.CSV, Optional.empty()).execute(model);
+
+        AddressBook teamsOnly = new AddressBook();
+        teamsOnly.addTeam(U12);
+        teamsOnly.addTeam(U16);
+        Model importedModel = new ModelManager(teamsOnly, new UserPrefs());
+        new ImportCommand(file).execute(importedModel);
+        assertEquals(model.getAddressBook().getPersonList(), importedModel.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws IOException {
+        Path file = Files.createDirectory(temporaryFolder.resolve("players.csv"));
+        assertCommandFailure(new ExportCommand(file, ExportCommand.Format.CSV, Optional.empty()), model,
+                String.format(ExportCommand.MESSAGE_CANNOT_WRITE_FILE, file));
+    }
+
+    @Test
+    public void execute_failsPartWay_keepsExistingFile() throws IOException {
+        Path file = temporaryFolder.resolve("players.csv");
+        Files.writeString(file, CSV_HEADER + "\n" + ELLE_CSV_ROW + "\n");
+        Model failingModel = new ModelStub() {
+            @Override
+            public ReadOnlyAddressBook getAddressBook() {
+                return model.getAddressBook();
+            }
+
+            @Override
+            public Predicate<Person> getPersonFilter(Optional<Team> team, Optional<Injury> injury,
+                    Optional<Position> position) {
+                return person -> {
+                    if (!person.equals(ALICE)) {
+                        throw new IllegalStateException();
+                    }
+                    return true;
+                };
+            }
+        };
+        FilterCommand filter = new FilterCommand(FilterByTeamPredicate.ALWAYS_TRUE,
+                FilterByInjuryPredicate.ALWAYS_TRUE, FilterByPositionPredicate.ALWAYS_TRUE,
+                Optional.empty(), Optional.empty(), Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> new ExportCommand(file, ExportCommand.Format.CSV,
+                Optional.of(filter)).execute(failingModel));
+        assertEquals(Arrays.asList(CSV_HEADER, ELLE_CSV_ROW), Files.readAllLines(file, StandardCharsets.UTF_8));
+        try (Stream<Path> files = Files.list(temporaryFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void equals() {
+        Path file = Paths.get("players.csv");
+        FilterCommand filter = new FilterCommand(new FilterByTeamPredicate(U16.getName()),
+                FilterByInjuryPredicate.ALWAYS_TRUE, FilterByPositionPredicate.ALWAYS_TRUE,
+                Optional.of(U16.getName()), Optional.empty(), Optional.empty());
+        ExportCommand exportCommand = new ExportCommand(file, ExportCommand.Format.CSV, Optional.of(filter));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand(file, ExportCommand.Format.CSV, Optional.of(filter))));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(Paths.get("others.csv"), ExportCommand.Format.CSV,
+                Optional.of(filter))));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(file, ExportCommand.Format.JSON_LINES,
+                Optional.of(filter))));
+
+        // no filter -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand(file, ExportCommand.Format.CSV, Optional.empty())));
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Phone;
+import seedu.address.model.position.Position;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,email,address,team,position,injuries,tags";
+    private static final String AMY_ROW = "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",U12,,"
+            + "Broken wrist,friend";
+    private static final String BOB_ROW = "Bob Choo,22222222,bob@example.com,\"Block 123, Bobby Street 3\",U16,,"
+            + "Meniscus tear,husband;friend";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullFile_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validRows_importsAllPlayers() throws IOException {
+        Path file = writeCsv(HEADER, AMY_ROW, "", BOB_ROW);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(AMY, BOB));
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                CommandResult.showPersonCommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_invalidRows_skipsAndReportsThem() throws IOException {
+        Path file = writeCsv(HEADER,
+                AMY_ROW,
+                "Alice Pauline,94351253,alice@example.com,Jurong,U12,,,",
+                "Carl Jones,phone,carl@example.com,Clementi,U12,,,",
+                "Dan Tan,93210283,dan@example.com,Bedok,U99,,,",
+                "Eve Lim,93210284,eve@example.com,Bedok,U12,GK,,",
+                "amy bee,93210285,amy2@example.com,Bedok,U12,,,",
+                "Fay Ong,93210286",
+                BOB_ROW);
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPersons(Arrays.asList(AMY, BOB));
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 2, file)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, 6)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Messages.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, "Invalid phone number: phone "
+                        + Phone.MESSAGE_CONSTRAINTS)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(AddCommand.MESSAGE_TEAM_NOT_FOUND, "U99"))
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(ImportCommand.MESSAGE_POSITION_NOT_FOUND, "GK"))
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 7, Messages.MESSAGE_DUPLICATE_PERSON)
+                + "\n" + String.format(ImportCommand.MESSAGE_ROW_ERROR, 8,
+                        String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 8, 2));
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                CommandResult.showPersonCommandResult(expectedMessage), expectedModel);
+    }
+
+    @Test
+    public void execute_existingPosition_importsPlayerWithPosition() throws IOException {
+        model.addPosition(Position.of("GK"));
+        Path file = writeCsv(HEADER, "Eve Lim,93210284,eve@example.com,Bedok,U12,gk,,");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPosition(Position.of("GK"));
+        expectedModel.addPerson(new PersonBuilder().withName("Eve Lim").withPhone("93210284")
+                .withEmail("eve@example.com").withAddress("Bedok").withPosition("GK").build());
+
+        assertCommandSuccess(new ImportCommand(file), model,
+                CommandResult.showPersonCommandResult(String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_manyInvalidRows_reportsOnlyTheFirstErrors() throws IOException, CommandException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int invalidRowCount = ImportCommand.MAX_REPORTED_ERRORS + 5;
+        for (int i = 0; i < invalidRowCount; i++) {
+            lines.add("Player " + i + ",phone,player@example.com,Bedok,U12,,,");
+        }
+        Path file = writeCsv(lines.toArray(new String[0]));
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+        String[] feedbackLines = feedback.split("\n");
+        assertEquals(String.format(ImportCommand.MESSAGE_ROWS_SKIPPED, invalidRowCount), feedbackLines[1]);
+        assertEquals(ImportCommand.MAX_REPORTED_ERRORS + 3, feedbackLines.length);
+        assertEquals(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5), feedbackLines[feedbackLines.length - 1]);
+    }
+
+    @Test
+    public void execute_moreRowsThanBatchSize_importsAllPlayers() throws IOException, CommandException {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ImportCommand.BATCH_SIZE * 2 + 1;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Player " + i + ",9" + (1000000 + i) + ",player@example.com,Bedok,U12,,,");
+        }
+        // A duplicate of a player in an earlier batch
+        lines.add("Player 0,91234567,player@example.com,Bedok,U12,,,");
+        Path file = writeCsv(lines.toArray(new String[0]));
+        int initialSize = model.getAddressBook().getPersonList().size();
+
+        new ImportCommand(file).execute(model);
+        assertEquals(initialSize + rowCount, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Player " + (rowCount - 1)).build()));
+    }
+
+    @Test
+    public void execute_import_isUndoneAsOneChange() throws IOException, CommandException {
+        Path file = writeCsv(HEADER, AMY_ROW, BOB_ROW);
+        new ImportCommand(file).execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertFalse(model.hasPerson(AMY));
+        assertFalse(model.hasPerson(BOB));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = temporaryFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(file), model,
+                String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE, file));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws IOException {
+        Path file = writeCsv();
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_EMPTY_FILE, file));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws IOException {
+        Path file = writeCsv("name,phone", "Amy Bee,11111111");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_INVALID_HEADER,
+                file, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMNS, "email, address, team")));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("players.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("players.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("others.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path file = Paths.get("players.csv");
+        ImportCommand importCommand = new ImportCommand(file);
+        String expected = ImportCommand.class.getCanonicalName() + "{file=" + file + "}";
+        assertEquals(expected, importCommand.toString());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("players.csv");
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
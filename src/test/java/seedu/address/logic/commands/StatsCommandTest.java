@@ -0,0 +1,47 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.position.Position;
+import seedu.address.model.team.Team;
+import seedu.address.testutil.PersonBuilder;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_emptyPlayBook_reportsZeroCounts() {
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(new StatsCommand(), model, "Roster: 0 players, 0 injured (0%), 0 captain(s)",
+                expectedModel);
+    }
+
+    @Test
+    public void execute_playersInTeamsAndPositions_reportsCountsPerTeamAndPosition() {
+        AddressBook addressBook = new AddressBook(Arrays.asList(
+                new PersonBuilder().withName("Amy").withTeam("U12").withPosition("LW").withCaptain(true).build(),
+                new PersonBuilder().withName("Bob").withTeam("U12").withPosition("LW").withInjuries("ACL").build(),
+                new PersonBuilder().withName("Cat").withTeam("U16").withInjuries("MCL").build()),
+                Arrays.asList(new Team("U12"), new Team("U16"), new Team("U21")),
+                Arrays.asList(new Position("LW"), new Position("RW")));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = "Roster: 3 players, 2 injured (67%), 1 captain(s)\n"
+                + "Team U12: 2 players, 1 injured (50%), 1 captain(s)\n"
+                + "Team U16: 1 player, 1 injured (100%), 0 captain(s)\n"
+                + "Team U21: 0 players, 0 injured (0%), 0 captain(s)\n"
+                + "Position LW: 2 players\n"
+                + "Position RW: 0 players\n"
+                + "Position NONE: 1 player";
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+}
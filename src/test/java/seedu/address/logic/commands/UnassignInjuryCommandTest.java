@@ -104,7 +104,7 @@ public class UnassignInjuryCommandTest {
                 MCL);
 
         String expectedMessage = formatPlayerInjuryMessage(Messages.MESSAGE_UNASSIGN_INJURY_SUCCESS,
-                personWithMultipleInjuries.getName(), personWithMultipleInjuries.getInjuries().iterator().next());
+                personWithMultipleInjuries.getName(), MCL);
         assertEquals(expectedMessage, unassignInjuryCommand.execute(modelStub).getFeedbackToUser());
     }
 
@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AddTeamCommand;
+import seedu.address.logic.commands.AssignCaptainCommand;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.model.person.Name;
+import seedu.address.model.team.Team;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path scriptFile = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, " " + scriptFile,
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_SCRIPT, scriptFile));
+    }
+
+    @Test
+    public void parse_validScript_skipsBlankAndCommentLines() throws IOException {
+        Path scriptFile = writeScript("# pre-season", "addteam tm/U21", "", "  assigncaptain pl/Amy Bee  ");
+        BatchCommand expectedCommand = new BatchCommand(scriptFile,
+                Arrays.asList(new AddTeamCommand(new Team("U21")), new AssignCaptainCommand(new Name("Amy Bee"))),
+                Arrays.asList(2, 4));
+        assertParseSuccess(parser, " " + scriptFile, expectedCommand);
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseExceptionWithLineNumber() throws IOException {
+        Path scriptFile = writeScript("addteam tm/U21", "unknowncommand");
+        assertParseFailure(parser, " " + scriptFile,
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_sessionCommandInScript_throwsParseException() throws IOException {
+        Path scriptFile = writeScript("undo");
+        assertParseFailure(parser, " " + scriptFile, String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 1,
+                String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, "undo")));
+
+        scriptFile = writeScript("batch other.txt");
+        assertParseFailure(parser, " " + scriptFile, String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 1,
+                String.format(BatchCommandParser.MESSAGE_COMMAND_NOT_ALLOWED, "batch")));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path scriptFile = temporaryFolder.resolve("script.txt");
+        Files.write(scriptFile, Arrays.asList(lines));
+        return scriptFile;
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.model.person.FilterByInjuryPredicate;
+import seedu.address.model.position.FilterByPositionPredicate;
+import seedu.address.model.team.FilterByTeamPredicate;
+import seedu.address.model.team.Team;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "     ", expectedMessage);
+        assertParseFailure(parser, " tm/U16", expectedMessage);
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, " players.txt", ExportCommandParser.MESSAGE_UNKNOWN_FORMAT);
+    }
+
+    @Test
+    public void parse_fileOnly_returnsExportCommandWithoutFilter() {
+        assertParseSuccess(parser, " players.csv",
+                new ExportCommand(Paths.get("players.csv"), ExportCommand.Format.CSV, Optional.empty()));
+        assertParseSuccess(parser, " out/Players.JSONL ",
+                new ExportCommand(Paths.get("out", "Players.JSONL"), ExportCommand.Format.JSON_LINES,
+                        Optional.empty()));
+    }
+
+    @Test
+    public void parse_fileAndCriteria_returnsExportCommandWithFilter() {
+        FilterCommand expectedFilter = new FilterCommand(new FilterByTeamPredicate("U16"),
+                new FilterByInjuryPredicate("ACL"), FilterByPositionPredicate.ALWAYS_TRUE,
+                Optional.of("U16"), Optional.of("ACL"), Optional.empty());
+        assertParseSuccess(parser, " physio.csv tm/U16 i/ACL",
+                new ExportCommand(Paths.get("physio.csv"), ExportCommand.Format.CSV, Optional.of(expectedFilter)));
+    }
+
+    @Test
+    public void parse_invalidCriteria_throwsParseException() {
+        assertParseFailure(parser, " physio.csv tm/U16 tm/U12",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_TEAM));
+        assertParseFailure(parser, " physio.csv tm/U-16",
+                String.format("Invalid team name: %s\n%s", "U-16", Team.MESSAGE_CONSTRAINTS));
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -197,4 +198,19 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseFilePath_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ParserUtil.parseFilePath(null));
+    }
+
+    @Test
+    public void parseFilePath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseFilePath("players\0.csv"));
+    }
+
+    @Test
+    public void parseFilePath_validValueWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data", "players.csv"), ParserUtil.parseFilePath("  data/players.csv  "));
+    }
 }
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCsvParserTest {
+
+    private static final List<String> HEADER = Arrays.asList("name", "phone", "email", "address", "team",
+            "position", "injuries", "tags");
+
+    @Test
+    public void constructor_missingRequiredColumns_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMNS, "email, team"), ()
+                -> new PersonCsvParser(Arrays.asList("name", "phone", "address")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN, "name"), ()
+                -> new PersonCsvParser(Arrays.asList("name", "phone", "email", "address", "team", "Name")));
+    }
+
+    @Test
+    public void parse_allColumns_returnsPerson() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertEquals(BOB, parser.parse(Arrays.asList("Bob Choo", "22222222", "bob@example.com",
+                "Block 123, Bobby Street 3", "U16", "", "Meniscus tear", "husband;friend")));
+    }
+
+    @Test
+    public void parse_columnsInAnyOrderAndCase_returnsPerson() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(Arrays.asList(" Team", "TAGS", "Injuries", "name", "notes",
+                "Email", "phone", "address"));
+        assertEquals(AMY, parser.parse(Arrays.asList("U12", "friend", "Broken wrist", "Amy Bee", "ignored",
+                "amy@example.com", "11111111", "Block 312, Amy Street 1")));
+    }
+
+    @Test
+    public void parse_optionalFieldsEmptyOrAbsent_usesDefaults() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(Arrays.asList("name", "phone", "email", "address", "team"));
+        assertEquals(new PersonBuilder().build(), parser.parse(Arrays.asList(PersonBuilder.DEFAULT_NAME,
+                PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_EMAIL, PersonBuilder.DEFAULT_ADDRESS,
+                PersonBuilder.DEFAULT_TEAM)));
+    }
+
+    @Test
+    public void parse_position_returnsPersonWithPosition() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertEquals(new PersonBuilder().withPosition("LW").build(), parser.parse(Arrays.asList(
+                PersonBuilder.DEFAULT_NAME, PersonBuilder.DEFAULT_PHONE, PersonBuilder.DEFAULT_EMAIL,
+                PersonBuilder.DEFAULT_ADDRESS, PersonBuilder.DEFAULT_TEAM, "LW", "", "")));
+    }
+
+    @Test
+    public void parse_wrongFieldCount_throwsParseException() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_WRONG_FIELD_COUNT, 8, 2), ()
+                -> parser.parse(Arrays.asList("Amy Bee", "11111111")));
+    }
+
+    @Test
+    public void parse_invalidField_throwsParseException() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertThrows(ParseException.class, () -> parser.parse(Arrays.asList("R@chel", "11111111",
+                "amy@example.com", "Block 312, Amy Street 1", "U12", "", "", "")));
+        assertThrows(ParseException.class, () -> parser.parse(Arrays.asList("Amy Bee", "phone",
+                "amy@example.com", "Block 312, Amy Street 1", "U12", "", "", "")));
+    }
+
+    @Test
+    public void parse_nameWithSurroundingSpaces_isTrimmed() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+        assertEquals(new Name("Amy Bee"), parser.parse(Arrays.asList("  Amy Bee ", "11111111",
+                "amy@example.com", "Block 312, Amy Street 1", "U12", "", "", "")).getName());
+    }
+}
@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTeams.U12;
 import static seedu.address.testutil.TypicalTeams.U16;
@@ -16,16 +19,24 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Injury;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.position.Position;
 import seedu.address.model.team.Team;
 import seedu.address.model.team.exceptions.DuplicateTeamException;
 import seedu.address.model.team.exceptions.TeamNotEmptyException;
+import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -39,6 +50,33 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPositionList());
     }
 
+    @Test
+    public void constructor_withLists_holdsAllData() {
+        AddressBook typical = getTypicalAddressBook();
+        AddressBook built = new AddressBook(typical.getPersonList(), typical.getTeamList(),
+                typical.getPositionList());
+        assertEquals(typical, built);
+        assertEquals(typical.getPositionList(), built.getPositionList());
+    }
+
+    @Test
+    public void constructor_withDuplicatePersons_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> new AddressBook(Arrays.asList(ALICE, editedAlice),
+                Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    public void getVersion_afterModification_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addTeam(U16);
+        assertTrue(addressBook.getVersion() > initialVersion);
+
+        long versionAfterAddTeam = addressBook.getVersion();
+        addressBook.hasTeam(U16);
+        assertEquals(versionAfterAddTeam, addressBook.getVersion());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -72,6 +110,83 @@ public class AddressBookTest {
         assertThrows(DuplicateTeamException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_copyWithFewChanges_appliesOnlyChanges() {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBook copy = new AddressBook(addressBook);
+        Person captainAlice = ALICE.withCaptain(true);
+        copy.setPerson(ALICE, captainAlice);
+        copy.removePerson(CARL);
+        Person bensonBefore = addressBook.getPersonByName(BENSON.getName());
+
+        addressBook.resetData(copy);
+        assertEquals(copy.getPersonList(), addressBook.getPersonList());
+        assertSame(bensonBefore, addressBook.getPersonByName(BENSON.getName()));
+        assertEquals(captainAlice, addressBook.getTeamCaptain(U12));
+        assertFalse(addressBook.hasPerson(CARL));
+        assertTrue(addressBook.getPersonsInTeam(U12).contains(addressBook.getPersonByName(ALICE.getName())));
+
+        // Data that holds the very same elements is not a change
+        long version = addressBook.getVersion();
+        addressBook.resetData(copy);
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void addPerson_teamAndPositionInLists_sharesListedInstances() {
+        Team team = new Team("U12");
+        Position position = new Position("LW");
+        addressBook.setTeams(Collections.singletonList(team));
+        addressBook.setPositions(Collections.singletonList(position));
+        Person person = new PersonBuilder(ALICE).withTeam("u12").withPosition("lw").build();
+
+        addressBook.addPerson(person);
+        Person storedPerson = addressBook.getPersonList().get(0);
+        assertEquals(person, storedPerson);
+        assertSame(team, storedPerson.getTeam());
+        assertSame(position, storedPerson.getPosition());
+        assertSame(Injury.of("ACL"), storedPerson.getInjuries().iterator().next());
+
+        addressBook.setPerson(storedPerson, new PersonBuilder(storedPerson).withTeam("U12").build());
+        assertSame(team, addressBook.getPersonList().get(0).getTeam());
+    }
+
+    @Test
+    public void resetData_sharesTeamInstancesOfNewData() {
+        AddressBook newData = new AddressBook();
+        newData.addTeam(new Team("U12"));
+        newData.addPerson(new PersonBuilder(ALICE).withTeam("u12").build());
+
+        addressBook.resetData(newData);
+        assertSame(addressBook.getTeamList().get(0), addressBook.getPersonList().get(0).getTeam());
+    }
+
+    @Test
+    public void getRosterStats_personsChanged_countsCurrentPersons() {
+        addressBook.setTeams(Arrays.asList(U12, U16));
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(new PersonBuilder(CARL).withCaptain(true).build());
+
+        RosterStats stats = addressBook.getRosterStats();
+        assertEquals(3, stats.getPlayerCount());
+        assertEquals(new RosterStats.TeamStats(3, 3, 1), stats.getTeamStats().get(U12));
+        assertEquals(new RosterStats.TeamStats(0, 0, 0), stats.getTeamStats().get(U16));
+
+        addressBook.removePerson(ALICE);
+        addressBook.assignTeam(BENSON, U16);
+        stats = addressBook.getRosterStats();
+        assertEquals(2, stats.getPlayerCount());
+        assertEquals(2, stats.getInjuredCount());
+        assertEquals(new RosterStats.TeamStats(1, 1, 1), stats.getTeamStats().get(U12));
+        assertEquals(new RosterStats.TeamStats(1, 1, 0), stats.getTeamStats().get(U16));
+        assertEquals(Integer.valueOf(2), stats.getPositionCounts().get(Position.DEFAULT_POSITION));
+
+        addressBook.setPersons(Collections.emptyList());
+        assertEquals(0, addressBook.getRosterStats().getPlayerCount());
+        assertEquals(new RosterStats.TeamStats(0, 0, 0), addressBook.getRosterStats().getTeamStats().get(U12));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -148,6 +263,157 @@ public class AddressBookTest {
         assertTrue(addressBook.isTeamEmpty(U16));
     }
 
+    @Test
+    public void getPersonsInTeam_afterUpdates_reflectsCurrentTeams() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getPersonsInTeam(U12));
+
+        addressBook.assignTeam(BENSON, U16);
+        Person movedBenson = addressBook.getPersonByName(BENSON.getName());
+        assertEquals(Set.of(ALICE), addressBook.getPersonsInTeam(U12));
+        assertEquals(Set.of(movedBenson), addressBook.getPersonsInTeam(U16));
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getPersonsInTeam(U12).isEmpty());
+        assertTrue(addressBook.isTeamEmpty(U12));
+    }
+
+    @Test
+    public void getPersonsWithInjury_afterSetPerson_reflectsCurrentInjuries() {
+        addressBook.addPerson(ALICE);
+        Person recoveredAlice = new PersonBuilder(ALICE).withInjuries("FIT").build();
+        addressBook.setPerson(ALICE, recoveredAlice);
+
+        assertTrue(addressBook.getPersonsWithInjury(new Injury("acl")).isEmpty());
+        assertEquals(Set.of(recoveredAlice), addressBook.getPersonsWithInjury(Injury.DEFAULT_INJURY_STATUS));
+    }
+
+    @Test
+    public void getPersonsInPosition_resetData_reindexed() {
+        Person leftWinger = new PersonBuilder(ALICE).withPosition("LW").build();
+        addressBook.resetData(new AddressBookBuilder().withPerson(leftWinger).withPerson(BENSON).build());
+
+        assertEquals(Set.of(leftWinger), addressBook.getPersonsInPosition(new Position("lw")));
+        assertTrue(addressBook.isPositionAssigned(new Position("LW")));
+        assertFalse(addressBook.isPositionAssigned(new Position("RW")));
+    }
+
+    @Test
+    public void getPersonFilter_severalCriteria_matchesIntersection() {
+        Person injuredBenson = new PersonBuilder(BENSON).withInjuries("Hamstring").build();
+        Person injuredCarl = new PersonBuilder(CARL).withInjuries("Hamstring").withTeam(U16.getName()).build();
+        addressBook.setPersons(Arrays.asList(ALICE, injuredBenson, injuredCarl));
+
+        Predicate<Person> filter = addressBook.getPersonFilter(Optional.of(U12), Optional.of(new Injury("hamstring")),
+                Optional.empty());
+        assertTrue(filter.test(injuredBenson));
+        assertFalse(filter.test(ALICE));
+        assertFalse(filter.test(injuredCarl));
+
+        Predicate<Person> noCriteria = addressBook.getPersonFilter(Optional.empty(), Optional.empty(),
+                Optional.empty());
+        assertTrue(noCriteria.test(ALICE));
+    }
+
+    @Test
+    public void getPersonFilter_personsChangedAfterwards_testsCurrentPersons() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Predicate<Person> filter = addressBook.getPersonFilter(Optional.of(U12), Optional.empty(),
+                Optional.empty());
+
+        Person movedAlice = new PersonBuilder(ALICE).withTeam(U16.getName()).build();
+        addressBook.setPerson(ALICE, movedAlice);
+        assertFalse(filter.test(movedAlice));
+
+        addressBook.removePerson(BENSON);
+        Person movedCarl = new PersonBuilder(CARL).withTeam(U16.getName()).build();
+        addressBook.addPerson(movedCarl);
+        assertFalse(filter.test(movedCarl));
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("91234567").build();
+        addressBook.setPerson(movedCarl, editedCarl);
+        assertTrue(filter.test(editedCarl));
+    }
+
+    @Test
+    public void searchNames_afterUpdates_matchesCurrentNames() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        PersonNameSearch search = addressBook.searchNames(
+                new NameContainsKeywordsPredicate(Arrays.asList("pauline", "MEIER", "Kurz")));
+        assertTrue(search.test(ALICE));
+        assertTrue(search.test(BENSON));
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        addressBook.setPerson(BENSON, renamedBenson);
+        addressBook.addPerson(CARL);
+        assertFalse(search.test(renamedBenson));
+        assertTrue(search.test(CARL));
+
+        PersonNameSearch newSearch = addressBook.searchNames(
+                new NameContainsKeywordsPredicate(Arrays.asList("tan", "Meier")));
+        assertTrue(newSearch.test(renamedBenson));
+        assertFalse(newSearch.test(ALICE));
+        assertFalse(newSearch.test(CARL));
+    }
+
+    @Test
+    public void searchNames_fuzzyAndPrefixKeywords_rankedByCloseness() {
+        Person meyer = new PersonBuilder().withName("Elle Meyer").build();
+        Person meier = new PersonBuilder().withName("Benson Meier").build();
+        Person mayer = new PersonBuilder().withName("Tom Mayer").build();
+        Person muller = new PersonBuilder().withName("Ida Mueller").build();
+        addressBook.setPersons(Arrays.asList(muller, mayer, meier, meyer));
+
+        PersonNameSearch search = addressBook.searchNames(new NameContainsKeywordsPredicate(Arrays.asList("meyer~")));
+        assertTrue(search.test(meyer));
+        assertTrue(search.test(meier));
+        assertTrue(search.test(mayer));
+        assertFalse(search.test(muller));
+        assertTrue(search.compare(meyer, meier) < 0);
+        assertEquals(0, search.compare(meier, mayer));
+
+        search = addressBook.searchNames(new NameContainsKeywordsPredicate(Arrays.asList("me*", "ida")));
+        assertTrue(search.test(meyer));
+        assertTrue(search.test(muller));
+        assertFalse(search.test(mayer));
+        assertTrue(search.compare(muller, meier) < 0);
+    }
+
+    @Test
+    public void searchNames_turkishLocale_matchesRegardlessOfCase() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lowercases to a dotless "\u0131" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Person ida = new PersonBuilder().withName("IDA Mueller").build();
+            addressBook.addPerson(ida);
+
+            assertTrue(addressBook.searchNames(new NameContainsKeywordsPredicate(List.of("ida"))).test(ida));
+            assertTrue(addressBook.searchNames(new NameContainsKeywordsPredicate(List.of("id*"))).test(ida));
+            assertTrue(addressBook.searchNames(new NameContainsKeywordsPredicate(List.of("ida~"))).test(ida));
+            assertTrue(new NameContainsKeywordsPredicate(List.of("id*")).test(ida));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getTeamCaptain_captainChanges_returnsCurrentCaptain() {
+        addressBook.addPerson(ALICE);
+        assertNull(addressBook.getTeamCaptain(U12));
+
+        Person captainAlice = ALICE.withCaptain(true);
+        addressBook.setPerson(ALICE, captainAlice);
+        assertEquals(captainAlice, addressBook.getTeamCaptain(U12));
+
+        addressBook.assignTeam(captainAlice, U16);
+        assertNull(addressBook.getTeamCaptain(U12));
+        assertNull(addressBook.getTeamCaptain(U16));
+    }
+
     @Test
     public void deleteTeam_nullTeam_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.deleteTeam(null));
@@ -538,4 +538,88 @@ public class ModelManagerTest {
         assertFalse(updatedPerson.isCaptain());
     }
 
+    @Test
+    public void undoAddressBook_committedChanges_restoresEarlierStatesInOrder() {
+        AddressBook original = getTypicalAddressBook();
+        ModelManager model = new ModelManager(original, new UserPrefs());
+        assertFalse(model.canUndoAddressBook());
+        assertFalse(model.canRedoAddressBook());
+
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        AddressBook afterDelete = new AddressBook(model.getAddressBook());
+        model.addPerson(ALICE);
+        model.addTeam(new Team("U21"));
+        model.commitAddressBook();
+        AddressBook afterAdd = new AddressBook(model.getAddressBook());
+
+        model.undoAddressBook();
+        assertEquals(afterDelete, model.getAddressBook());
+        model.undoAddressBook();
+        // Alice is back in front of the list, where she was before she was deleted
+        assertEquals(original, model.getAddressBook());
+        assertFalse(model.canUndoAddressBook());
+
+        model.redoAddressBook();
+        model.redoAddressBook();
+        assertEquals(afterAdd, model.getAddressBook());
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_uncommittedChange_commitsAndUndoesIt() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(BENSON, new PersonBuilder(BENSON).withCaptain(true).build());
+        assertTrue(model.canUndoAddressBook());
+
+        model.undoAddressBook();
+        assertEquals(getTypicalAddressBook(), model.getAddressBook());
+        assertTrue(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_newChangeAfterUndo_discardsRedoStates() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        model.deletePerson(BENSON);
+        assertFalse(model.canRedoAddressBook());
+        model.commitAddressBook();
+        assertFalse(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_unchangedAddressBook_doesNotRecordState() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.commitAddressBook();
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_beyondUndoHistoryDepth_forgetsOldestState() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), 1);
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+        model.deletePerson(BENSON);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+        assertTrue(model.hasPerson(BENSON));
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_restoredAddressBook_keepsIndexesConsistent() {
+        ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.assignTeam(ALICE, U16);
+        model.commitAddressBook();
+        model.undoAddressBook();
+
+        assertEquals(U12, model.getPersonByName(ALICE.getName()).getTeam());
+        assertEquals(new AddressBook(getTypicalAddressBook()).getRosterStats(), model.getRosterStats());
+    }
+
 }
@@ -0,0 +1,62 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+public class OrdinalSetTest {
+
+    private final OrdinalSet ordinalSet = new OrdinalSet();
+
+    @Test
+    public void addAndRemove_sparseOrdinals_success() {
+        ordinalSet.add(5000);
+        ordinalSet.add(7);
+        ordinalSet.add(300);
+        ordinalSet.add(7);
+        assertEquals(3, ordinalSet.size());
+        assertTrue(ordinalSet.contains(300));
+        assertEquals(7, ordinalSet.nextOrdinal(0));
+        assertEquals(5000, ordinalSet.nextOrdinal(301));
+
+        ordinalSet.remove(300);
+        ordinalSet.remove(42);
+        assertEquals(2, ordinalSet.size());
+        assertFalse(ordinalSet.contains(300));
+        assertEquals(5000, ordinalSet.nextOrdinal(8));
+        assertEquals(-1, ordinalSet.nextOrdinal(5001));
+    }
+
+    @Test
+    public void add_denseOrdinals_keepsContents() {
+        BitSet expected = new BitSet();
+        for (int ordinal = 0; ordinal < 1000; ordinal += 3) {
+            ordinalSet.add(ordinal);
+            expected.set(ordinal);
+        }
+        ordinalSet.remove(99);
+        expected.clear(99);
+
+        assertEquals(expected.cardinality(), ordinalSet.size());
+        assertEquals(expected, ordinalSet.toBitSet());
+        assertEquals(102, ordinalSet.nextOrdinal(97));
+    }
+
+    @Test
+    public void orInto_existingBits_keepsExistingBits() {
+        ordinalSet.add(3);
+        BitSet target = new BitSet();
+        target.set(1);
+        ordinalSet.orInto(target);
+
+        BitSet expected = new BitSet();
+        expected.set(1);
+        expected.set(3);
+        assertEquals(expected, target);
+    }
+
+}
@@ -2,9 +2,12 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class InjuryTest {
@@ -20,6 +23,14 @@ public class InjuryTest {
         assertThrows(IllegalArgumentException.class, () -> new Injury(invalidInjuryName));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Injury.of("ACL"), Injury.of("ACL"));
+        assertEquals(new Injury("ACL"), Injury.of("ACL"));
+        assertSame(Injury.DEFAULT_INJURY_STATUS, Injury.of("FIT"));
+        assertThrows(IllegalArgumentException.class, () -> Injury.of(""));
+    }
+
     @Test
     public void isValidInjuryName() {
         // null injury name
@@ -62,6 +73,21 @@ public class InjuryTest {
         assertFalse(injury.equals(new Injury("Other Valid Injury")));
     }
 
+    @Test
+    public void equals_differentCaseUnderTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lowercases to a dotless "\u0131" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Injury upper = new Injury("KNEE INJURY");
+            Injury lower = new Injury("knee injury");
+            assertTrue(upper.equals(lower));
+            assertEquals(upper.hashCode(), lower.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void toString_returnsInjuryName() {
         String expectedInjuryName = "Concussion";
@@ -74,6 +74,33 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void test_prefixAndFuzzyKeywords_matchesCloseNames() {
+        Person person = new PersonBuilder().withName("Jonathan Smyth").build();
+
+        // Prefix keywords
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("jon*")).test(person));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("Jonathan*")).test(person));
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("nathan*")).test(person));
+
+        // Fuzzy keywords
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("smith~")).test(person));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("Jonahtan~")).test(person));
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("smothers~")).test(person));
+
+        // Markers are not literal characters of a plain keyword
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("smith")).test(person));
+    }
+
+    @Test
+    public void getMatchScore_severalKeywords_bestScore() {
+        Person person = new PersonBuilder().withName("Jonathan Smyth").build();
+        assertEquals(0, new NameContainsKeywordsPredicate(Arrays.asList("smith~", "Jonathan")).getMatchScore(person));
+        assertEquals(1, new NameContainsKeywordsPredicate(Arrays.asList("smith~", "jo*")).getMatchScore(person));
+        assertEquals(NameContainsKeywordsPredicate.NO_MATCH,
+                new NameContainsKeywordsPredicate(Arrays.asList("Carol~")).getMatchScore(person));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -45,6 +48,10 @@ public class NameTest {
         // same values -> returns true
         assertTrue(name.equals(new Name("Valid Name")));
 
+        // same values in different case -> returns true
+        assertTrue(name.equals(new Name("valid NAME")));
+        assertEquals(name.hashCode(), new Name("valid NAME").hashCode());
+
         // same object -> returns true
         assertTrue(name.equals(name));
 
@@ -57,4 +64,19 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void equals_differentCaseUnderTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lowercases to a dotless "\u0131" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Name upper = new Name("IAN");
+            Name lower = new Name("ian");
+            assertTrue(upper.equals(lower));
+            assertEquals(upper.hashCode(), lower.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -60,6 +61,7 @@ public class PersonTest {
         // same values -> returns true
         Person aliceCopy = new PersonBuilder(ALICE).build();
         assertTrue(ALICE.equals(aliceCopy));
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
 
         // same object -> returns true
         assertTrue(ALICE.equals(ALICE));
@@ -139,6 +141,17 @@ public class PersonTest {
         assertEquals("U16", originalPerson.getTeam().getName());
     }
 
+    @Test
+    public void withMethods_unchangedSets_sharedWithNewPerson() {
+        Person captain = ALICE.withCaptain(true);
+        assertSame(ALICE.getTags(), captain.getTags());
+        assertSame(ALICE.getInjuries(), captain.getInjuries());
+
+        Person movedPerson = ALICE.withTeam(new Team("U16"));
+        assertSame(ALICE.getTags(), movedPerson.getTags());
+        assertSame(ALICE.getInjuries(), movedPerson.getInjuries());
+    }
+
     @Test
     public void withCaptain_newCaptainStatus_returnsPersonWithNewCaptainStatus() {
         // Create a person who is not a captain
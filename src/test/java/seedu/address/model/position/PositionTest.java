@@ -2,9 +2,12 @@ package seedu.address.model.position;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class PositionTest {
@@ -20,6 +23,18 @@ public class PositionTest {
         assertThrows(IllegalArgumentException.class, () -> new Position(invalidPositionName));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Position.of("FW"), Position.of("FW"));
+        assertEquals(new Position("FW"), Position.of("FW"));
+        assertSame(Position.DEFAULT_POSITION, Position.of("NONE"));
+    }
+
+    @Test
+    public void of_invalidPositionName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Position.of("F W"));
+    }
+
     @Test
     public void constructor_validPositionName_success() {
         // Valid alphanumeric position
@@ -95,6 +110,21 @@ public class PositionTest {
         assertFalse(fw.equals(gk));
     }
 
+    @Test
+    public void equals_differentCaseUnderTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lowercases to a dotless "\u0131" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Position upper = new Position("WINGER");
+            Position lower = new Position("winger");
+            assertTrue(upper.equals(lower));
+            assertEquals(upper.hashCode(), lower.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
     @Test
     public void hashCode_samePosition_sameHashCode() {
         Position fw1 = new Position("FW");
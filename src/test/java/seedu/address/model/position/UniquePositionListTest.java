@@ -2,6 +2,7 @@ package seedu.address.model.position;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -153,4 +154,16 @@ public class UniquePositionListTest {
         }
         assertEquals(2, count);
     }
+
+    @Test
+    public void intern_positionInList_returnsListedInstance() {
+        Position listed = new Position("LW");
+        uniquePositionList.setPositions(Collections.singletonList(listed));
+        assertSame(listed, uniquePositionList.intern(new Position("lw")));
+        assertSame(listed, uniquePositionList.getByName(" lw "));
+
+        Position unlisted = new Position("RW");
+        assertSame(unlisted, uniquePositionList.intern(unlisted));
+        assertThrows(PositionNotFoundException.class, () -> uniquePositionList.getByName("R W"));
+    }
 }
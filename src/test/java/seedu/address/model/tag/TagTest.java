@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +18,12 @@ public class TagTest {
         assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("best friends"));
+    }
+
     @Test
     public void isValidTagName() {
         // null tag name
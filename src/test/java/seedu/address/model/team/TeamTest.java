@@ -2,10 +2,14 @@ package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTeams.U12;
 import static seedu.address.testutil.TypicalTeams.U16;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.TeamBuilder;
@@ -47,6 +51,32 @@ public class TeamTest {
         assertFalse(U12.equals(editedU12));
     }
 
+    @Test
+    public void equals_differentCaseUnderTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        try {
+            // "I" lowercases to a dotless "\u0131" in Turkish
+            Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+            Team upper = new Team("TITANS");
+            Team lower = new Team("titans");
+            assertTrue(upper.equals(lower));
+            assertEquals(upper.hashCode(), lower.hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void of() {
+        // same name -> same instance
+        assertSame(Team.of("U12"), Team.of("U12"));
+        assertEquals(U12, Team.of("U12"));
+
+        // invalid name
+        assertThrows(NullPointerException.class, () -> Team.of(null));
+        assertThrows(IllegalArgumentException.class, () -> Team.of(" "));
+    }
+
     @Test
     public void toStringMethod() {
         String expectedString = U12.getName();
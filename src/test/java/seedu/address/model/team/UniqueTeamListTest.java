@@ -2,6 +2,7 @@ package seedu.address.model.team;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -41,6 +42,22 @@ public class UniqueTeamListTest {
         assertTrue(uniqueTeamList.contains(U12));
     }
 
+    @Test
+    public void intern_teamInList_returnsListedInstance() {
+        uniqueTeamList.add(U12);
+        assertSame(U12, uniqueTeamList.intern(new Team("u12")));
+    }
+
+    @Test
+    public void intern_teamNotInList_returnsSameTeam() {
+        Team team = new Team("U12");
+        assertSame(team, uniqueTeamList.intern(team));
+
+        uniqueTeamList.add(U12);
+        uniqueTeamList.remove(U12);
+        assertSame(team, uniqueTeamList.intern(team));
+    }
+
     @Test
     public void add_nullTeam_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTeamList.add(null));
@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TeamBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.json");
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_changesAppendedToJournal_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a full snapshot and an empty journal
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+
+        // Add, edit and remove persons; only the journal grows
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(HOON);
+        original.addPerson(IDA);
+        original.addTeam(new TeamBuilder().withName("U18").build());
+        storage.saveAddressBook(original);
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(5, Files.readAllLines(journalPath).size());
+
+        // A fresh storage replays the journal on top of the snapshot
+        AddressBook readBack = new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compacts() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignoresLastRecord() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"op\":\"INSERT\",\"index\":", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_replacesIncompleteRecord() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.writeString(journalPath, "{\"op\":\"INSERT\",\"index\":", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        // A storage that read the incomplete record appends its next batch in place of it
+        storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_unfinishedBatch_ignoresBatch() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulates a crash after writing the first record of a batch of two
+        int size = original.getPersonList().size();
+        String firstRecord = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.insert(size, IDA));
+        Files.writeString(journalPath, firstRecord + System.lineSeparator(), StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithoutJournal_startsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(readBack, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Simulates a compaction that wrote the new snapshot but not the new journal
+        original.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+}
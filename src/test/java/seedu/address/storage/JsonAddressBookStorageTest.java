@@ -45,6 +45,11 @@ public class JsonAddressBookStorageTest {
         assertFalse(readAddressBook("NonExistentFile.json").isPresent());
     }
 
+    @Test
+    public void read_directory_emptyResult() throws Exception {
+        assertFalse(new JsonAddressBookStorage(testFolder).readAddressBook(testFolder).isPresent());
+    }
+
     @Test
     public void read_notJsonFormat_exceptionThrown() {
         assertThrows(DataLoadingException.class, () -> readAddressBook("notJsonFormatAddressBook.json"));
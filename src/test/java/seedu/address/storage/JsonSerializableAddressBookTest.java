@@ -3,11 +3,16 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.StringWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -54,4 +59,48 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(TYPICAL_PERSONS_FILE)) {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(INVALID_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = JsonUtil.createJsonFileParser(DUPLICATE_PERSON_FILE)) {
+            assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void readAddressBook_missingTeams_throwsIllegalValueException() throws Exception {
+        try (JsonParser parser = new JsonFactory().createParser("{\"persons\": [], \"unknown\": {\"a\": [1]}}")) {
+            assertThrows(IllegalValueException.class,
+                    String.format(JsonSerializableAddressBook.MISSING_LIST_MESSAGE_FORMAT, "teams"), () ->
+                    JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
+    @Test
+    public void writeAddressBook_thenReadAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = TypicalPersons.getTypicalAddressBook();
+        StringWriter json = new StringWriter();
+        try (JsonGenerator generator = new JsonFactory().createGenerator(json)) {
+            JsonSerializableAddressBook.writeAddressBook(original, generator);
+        }
+
+        try (JsonParser parser = new JsonFactory().createParser(json.toString())) {
+            assertEquals(original, JsonSerializableAddressBook.readAddressBook(parser));
+        }
+    }
+
 }
@@ -2,9 +2,18 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,6 +69,86 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void addressBookReadSave_writeBehind_savedAfterFlush() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        writeBehindStorage.saveAddressBook(original);
+        writeBehindStorage.flush();
+        ReadOnlyAddressBook retrieved = writeBehindStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void flush_writeBehindSaveFailed_throwsIoException() throws Exception {
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw new IOException("dummy IO exception");
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, writeBehindStorage::flush);
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindSourceChangedAfterSave_savesStateAtSave() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook addressBook = getTypicalAddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        writeBehindStorage.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindSaveFailed_reportsFailureToHandler() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        writeBehindStorage.setSaveFailureHandler(reportedFailures::add);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, writeBehindStorage::flush);
+        assertEquals(List.of(failure), reportedFailures);
+    }
+
+    @Test
+    public void flush_writeBehindSaveFailedThenLaterSaveSucceeded_doesNotThrow() throws Exception {
+        AtomicBoolean hasFailed = new AtomicBoolean();
+        JsonAddressBookStorage failingOnceStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (hasFailed.compareAndSet(false, true)) {
+                    throw new IOException("dummy IO exception");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingOnceStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        CountDownLatch failureReported = new CountDownLatch(1);
+        writeBehindStorage.setSaveFailureHandler(failure -> failureReported.countDown());
+
+        writeBehindStorage.saveAddressBook(new AddressBook());
+        assertTrue(failureReported.await(10, TimeUnit.SECONDS));
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flush();
+        assertEquals(getTypicalAddressBook(), new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
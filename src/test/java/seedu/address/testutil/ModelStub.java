@@ -1,6 +1,8 @@
 package seedu.address.testutil;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -8,8 +10,10 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.RosterStats;
 import seedu.address.model.person.Injury;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.position.Position;
 import seedu.address.model.team.Team;
@@ -56,6 +60,41 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         throw new AssertionError("This method should not be called.");
@@ -116,6 +155,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void updateFilteredTeamList(Predicate<Team> predicate) {
         throw new AssertionError("This method should not be called.");
@@ -206,4 +250,16 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Person> getPersonFilter(Optional<Team> team, Optional<Injury> injury,
+            Optional<Position> position) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public RosterStats getRosterStats() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+
 }